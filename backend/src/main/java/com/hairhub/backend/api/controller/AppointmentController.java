@@ -1,6 +1,7 @@
 package com.hairhub.backend.api.controller;
 
 import com.hairhub.backend.api.dto.appointment.*;
+import com.hairhub.backend.api.dto.common.CursorResponse;
 import com.hairhub.backend.api.dto.common.PageResponse;
 import com.hairhub.backend.api.service.AppointmentService;
 import com.hairhub.backend.config.SecurityUser;
@@ -9,11 +10,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/appointments")
@@ -34,6 +37,42 @@ public class AppointmentController {
                 .body(appointmentService.createAppointment(user.getId(), request));
     }
 
+    /**
+     * Book a recurring series of appointments
+     */
+    @PostMapping("/series")
+    public ResponseEntity<AppointmentSeriesResponse> createAppointmentSeries(
+            @AuthenticationPrincipal SecurityUser user,
+            @Valid @RequestBody CreateAppointmentSeriesRequest request) {
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(appointmentService.createAppointmentSeries(user.getId(), request));
+    }
+
+    /**
+     * Hold a slot for a few minutes before booking it
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<SlotHoldResponse> holdSlot(
+            @AuthenticationPrincipal SecurityUser user,
+            @Valid @RequestBody HoldSlotRequest request) {
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(appointmentService.holdSlot(user.getId(), request));
+    }
+
+    /**
+     * Release a slot hold
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(
+            @PathVariable UUID holdId,
+            @AuthenticationPrincipal SecurityUser user) {
+
+        appointmentService.releaseHold(holdId, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Get appointment by ID
      */
@@ -57,6 +96,18 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getClientAppointments(user.getId(), page, size));
     }
 
+    /**
+     * Get my appointments by keyset cursor (as client)
+     */
+    @GetMapping("/my/cursor")
+    public ResponseEntity<CursorResponse<AppointmentResponse>> getMyAppointmentsByCursor(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(appointmentService.getClientAppointments(user.getId(), cursor, size));
+    }
+
     /**
      * Get my upcoming appointments (as client)
      */
@@ -80,6 +131,19 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getWorkerAppointments(workerId, user.getId(), page, size));
     }
 
+    /**
+     * Get appointments for a worker by keyset cursor
+     */
+    @GetMapping("/worker/{workerId}/cursor")
+    public ResponseEntity<CursorResponse<AppointmentResponse>> getWorkerAppointmentsByCursor(
+            @PathVariable Long workerId,
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(appointmentService.getWorkerAppointments(workerId, user.getId(), cursor, size));
+    }
+
     /**
      * Get upcoming appointments for a worker
      */
@@ -91,6 +155,18 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getUpcomingWorkerAppointments(workerId, user.getId()));
     }
 
+    /**
+     * Change the status of several appointments at once (owner or worker)
+     */
+    @PatchMapping("/status")
+    @PreAuthorize("hasAnyRole('OWNER', 'WORKER')")
+    public ResponseEntity<BulkStatusUpdateResponse> updateAppointmentStatuses(
+            @AuthenticationPrincipal SecurityUser user,
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+
+        return ResponseEntity.ok(appointmentService.updateAppointmentStatuses(user.getId(), request));
+    }
+
     /**
      * Update appointment (status change)
      */
@@ -139,5 +215,29 @@ public class AppointmentController {
 
         return ResponseEntity.ok(appointmentService.getWorkerAvailability(workerId, date, duration));
     }
-}
 
+    /**
+     * Get worker availability for a range of dates (inclusive)
+     */
+    @GetMapping("/availability/{workerId}/range")
+    public ResponseEntity<AvailabilityRangeResponse> getWorkerAvailabilityRange(
+            @PathVariable Long workerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer duration) {
+
+        return ResponseEntity.ok(appointmentService.getWorkerAvailabilityRange(workerId, from, to, duration));
+    }
+
+    /**
+     * Get the earliest available start times of a worker
+     */
+    @GetMapping("/availability/{workerId}/next")
+    public ResponseEntity<NextAvailableSlotsResponse> getNextAvailableSlots(
+            @PathVariable Long workerId,
+            @RequestParam(required = false) Integer duration,
+            @RequestParam(required = false) Integer count) {
+
+        return ResponseEntity.ok(appointmentService.getNextAvailableSlots(workerId, duration, count));
+    }
+}
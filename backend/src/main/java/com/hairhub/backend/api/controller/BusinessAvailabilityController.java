@@ -0,0 +1,43 @@
+package com.hairhub.backend.api.controller;
+
+import com.hairhub.backend.api.dto.appointment.BusinessAvailabilityResponse;
+import com.hairhub.backend.api.dto.appointment.NextAvailableSlotsResponse;
+import com.hairhub.backend.api.service.AppointmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/businesses/{businessId}/availability")
+@RequiredArgsConstructor
+public class BusinessAvailabilityController {
+
+    private final AppointmentService appointmentService;
+
+    /**
+     * Get free workers per slot for a service on a specific date
+     */
+    @GetMapping
+    public ResponseEntity<BusinessAvailabilityResponse> getBusinessAvailability(
+            @PathVariable Long businessId,
+            @RequestParam Long serviceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        return ResponseEntity.ok(appointmentService.getBusinessAvailability(businessId, serviceId, date));
+    }
+
+    /**
+     * Get the earliest start times at which any worker can do a service
+     */
+    @GetMapping("/next")
+    public ResponseEntity<NextAvailableSlotsResponse> getNextAvailableSlots(
+            @PathVariable Long businessId,
+            @RequestParam Long serviceId,
+            @RequestParam(required = false) Integer count) {
+
+        return ResponseEntity.ok(appointmentService.getNextBusinessAvailableSlots(businessId, serviceId, count));
+    }
+}
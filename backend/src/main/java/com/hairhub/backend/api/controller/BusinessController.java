@@ -1,6 +1,7 @@
 package com.hairhub.backend.api.controller;
 
 import com.hairhub.backend.api.dto.business.*;
+import com.hairhub.backend.api.dto.common.CursorResponse;
 import com.hairhub.backend.api.dto.common.PageResponse;
 import com.hairhub.backend.api.service.BusinessService;
 import com.hairhub.backend.config.SecurityUser;
@@ -13,6 +14,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @RestController
@@ -23,17 +25,64 @@ public class BusinessController {
     private final BusinessService businessService;
 
     /**
-     * Search businesses with filters (public)
+     * Search businesses with filters (public); fuzzy tolerates typos in the name
      */
     @GetMapping("/search")
     public ResponseEntity<PageResponse<BusinessSummaryResponse>> searchBusinesses(
             @RequestParam(required = false) String query,
             @RequestParam(required = false) BusinessCategory category,
             @RequestParam(required = false) String city,
+            @RequestParam(required = false) BigDecimal minRating,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
-        return ResponseEntity.ok(businessService.searchBusinesses(query, category, city, page, size));
+        return ResponseEntity.ok(businessService.searchBusinesses(query, category, city, minRating, fuzzy, page, size));
+    }
+
+    /**
+     * Search businesses near a point, nearest first (public)
+     */
+    @GetMapping("/search/nearby")
+    public ResponseEntity<CursorResponse<BusinessSummaryResponse>> searchNearbyBusinesses(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) BusinessCategory category,
+            @RequestParam(required = false) BigDecimal minRating,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(businessService.searchNearbyBusinesses(
+                lat, lng, radiusKm, query, category, minRating, cursor, size));
+    }
+
+    /**
+     * Suggest business names for a possibly misspelled query (public)
+     */
+    @GetMapping("/search/suggestions")
+    public ResponseEntity<List<String>> suggestBusinessNames(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "5") int limit) {
+
+        return ResponseEntity.ok(businessService.suggestBusinessNames(query, limit));
+    }
+
+    /**
+     * Search businesses by keyset cursor, best rated first (public).
+     * A text query is rejected with 400; relevance-ordered results are only served by /search.
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorResponse<BusinessSummaryResponse>> searchBusinessesByCursor(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) BusinessCategory category,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) BigDecimal minRating,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(businessService.searchBusinesses(query, category, city, minRating, cursor, size));
     }
 
     /**
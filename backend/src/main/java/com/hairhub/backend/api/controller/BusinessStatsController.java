@@ -0,0 +1,50 @@
+package com.hairhub.backend.api.controller;
+
+import com.hairhub.backend.api.dto.business.BusinessStatsResponse;
+import com.hairhub.backend.api.dto.business.OccupancyHeatmapResponse;
+import com.hairhub.backend.api.service.BusinessStatsService;
+import com.hairhub.backend.config.SecurityUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/businesses/{businessId}/stats")
+@RequiredArgsConstructor
+public class BusinessStatsController {
+
+    private final BusinessStatsService businessStatsService;
+
+    /**
+     * Get appointments by status, booked minutes and revenue per day and worker (owner only)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<BusinessStatsResponse> getBusinessStats(
+            @PathVariable Long businessId,
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return ResponseEntity.ok(businessStatsService.getBusinessStats(businessId, user.getId(), from, to));
+    }
+
+    /**
+     * Get booked vs scheduled minutes per worker and hour for a month (owner only)
+     */
+    @GetMapping("/occupancy")
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<OccupancyHeatmapResponse> getOccupancyHeatmap(
+            @PathVariable Long businessId,
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+
+        return ResponseEntity.ok(businessStatsService.getOccupancyHeatmap(businessId, user.getId(), month));
+    }
+}
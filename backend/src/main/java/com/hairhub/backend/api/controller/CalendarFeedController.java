@@ -0,0 +1,67 @@
+package com.hairhub.backend.api.controller;
+
+import com.hairhub.backend.api.dto.appointment.CalendarFeedResponse;
+import com.hairhub.backend.api.service.CalendarFeedService;
+import com.hairhub.backend.config.SecurityUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/calendar/feeds")
+@RequiredArgsConstructor
+public class CalendarFeedController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    /**
+     * Create or rotate the feed of my appointments (as client)
+     */
+    @PostMapping("/my")
+    public ResponseEntity<CalendarFeedResponse> createMyFeed(@AuthenticationPrincipal SecurityUser user) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(calendarFeedService.createClientFeed(user.getId()));
+    }
+
+    /**
+     * Create or rotate the agenda feed of a worker
+     */
+    @PostMapping("/workers/{workerId}")
+    @PreAuthorize("hasAnyRole('OWNER', 'WORKER')")
+    public ResponseEntity<CalendarFeedResponse> createWorkerFeed(
+            @PathVariable Long workerId,
+            @AuthenticationPrincipal SecurityUser user) {
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(calendarFeedService.createWorkerFeed(workerId, user.getId()));
+    }
+
+    /**
+     * iCalendar feed (public, the token is the credential).
+     * Answers 304 from the validators alone when the feed has not changed.
+     */
+    @GetMapping("/{token}.ics")
+    public ResponseEntity<StreamingResponseBody> getFeed(@PathVariable String token, WebRequest request) {
+        CalendarFeedService.FeedSnapshot feed = calendarFeedService.getFeed(token);
+
+        if (request.checkNotModified(feed.etag(), feed.lastModified())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(out -> calendarFeedService.writeFeed(feed, out));
+    }
+}
@@ -1,6 +1,7 @@
 package com.hairhub.backend.api.controller;
 
 import com.hairhub.backend.api.dto.business.BusinessSummaryResponse;
+import com.hairhub.backend.api.dto.common.CursorResponse;
 import com.hairhub.backend.api.dto.common.PageResponse;
 import com.hairhub.backend.api.service.FavoriteService;
 import com.hairhub.backend.config.SecurityUser;
@@ -35,6 +36,17 @@ public class FavoriteController {
         return ResponseEntity.ok(favoriteService.getUserFavorites(user.getId(), page, size));
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Obtener favoritos del usuario actual (paginado por cursor)")
+    public ResponseEntity<CursorResponse<BusinessSummaryResponse>> getMyFavoritesByCursor(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(favoriteService.getUserFavorites(user.getId(), cursor, size));
+    }
+
     @GetMapping("/all")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Obtener todos los favoritos del usuario actual")
@@ -1,9 +1,15 @@
 package com.hairhub.backend.api.controller;
 
 import com.hairhub.backend.api.dto.appointment.ReviewResponse;
+import com.hairhub.backend.api.dto.appointment.ReviewSearchResponse;
+import com.hairhub.backend.api.dto.common.CursorResponse;
+import com.hairhub.backend.api.dto.common.PageResponse;
 import com.hairhub.backend.api.service.AppointmentService;
+import com.hairhub.backend.config.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,5 +28,31 @@ public class ReviewController {
     public ResponseEntity<List<ReviewResponse>> getBusinessReviews(@PathVariable Long businessId) {
         return ResponseEntity.ok(appointmentService.getBusinessReviews(businessId));
     }
-}
 
+    /**
+     * Search the reviews of a business by words, best match first (owner only)
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<PageResponse<ReviewSearchResponse>> searchBusinessReviews(
+            @PathVariable Long businessId,
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(appointmentService.searchBusinessReviews(businessId, user.getId(), query, page, size));
+    }
+
+    /**
+     * Get reviews for a business by keyset cursor, newest first (public)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<ReviewResponse>> getBusinessReviewsByCursor(
+            @PathVariable Long businessId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(appointmentService.getBusinessReviews(businessId, cursor, size));
+    }
+}
@@ -28,6 +28,16 @@ public class WorkerController {
         return ResponseEntity.ok(workerService.getWorkersByBusiness(businessId));
     }
 
+    /**
+     * Get workers ranked by confidence-adjusted rating (public)
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<WorkerRankingResponse>> getLeaderboard(
+            @PathVariable Long businessId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(workerService.getLeaderboard(businessId, limit));
+    }
+
     /**
      * Get worker by ID
      */
@@ -93,5 +103,47 @@ public class WorkerController {
 
         return ResponseEntity.ok(workerService.setWorkerSchedule(workerId, user.getId(), schedules));
     }
-}
 
+    /**
+     * Get upcoming schedule exceptions of a worker
+     */
+    @GetMapping("/{workerId}/schedule/exceptions")
+    @PreAuthorize("hasAnyRole('OWNER', 'WORKER')")
+    public ResponseEntity<List<WorkerScheduleExceptionResponse>> getScheduleExceptions(
+            @PathVariable Long businessId,
+            @PathVariable Long workerId,
+            @AuthenticationPrincipal SecurityUser user) {
+
+        return ResponseEntity.ok(workerService.getScheduleExceptions(workerId, user.getId()));
+    }
+
+    /**
+     * Add a schedule exception (day off, vacation, special hours)
+     */
+    @PostMapping("/{workerId}/schedule/exceptions")
+    @PreAuthorize("hasAnyRole('OWNER', 'WORKER')")
+    public ResponseEntity<WorkerScheduleExceptionResponse> addScheduleException(
+            @PathVariable Long businessId,
+            @PathVariable Long workerId,
+            @AuthenticationPrincipal SecurityUser user,
+            @Valid @RequestBody WorkerScheduleExceptionRequest request) {
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(workerService.addScheduleException(workerId, user.getId(), request));
+    }
+
+    /**
+     * Delete a schedule exception
+     */
+    @DeleteMapping("/{workerId}/schedule/exceptions/{exceptionId}")
+    @PreAuthorize("hasAnyRole('OWNER', 'WORKER')")
+    public ResponseEntity<Void> deleteScheduleException(
+            @PathVariable Long businessId,
+            @PathVariable Long workerId,
+            @PathVariable Long exceptionId,
+            @AuthenticationPrincipal SecurityUser user) {
+
+        workerService.deleteScheduleException(workerId, exceptionId, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Result of a recurring booking: the appointments created and the occurrences that were skipped.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AppointmentSeriesResponse {
+
+    private List<AppointmentResponse> created;
+
+    private List<Conflict> conflicts;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Conflict {
+        @JsonProperty("start_time")
+        private LocalDateTime startTime;
+
+        @JsonProperty("end_time")
+        private LocalDateTime endTime;
+
+        private String reason;
+    }
+}
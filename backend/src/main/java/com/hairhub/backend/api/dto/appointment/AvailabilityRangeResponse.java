@@ -0,0 +1,43 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Availability of a worker over several days, grouped by date.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityRangeResponse {
+
+    @JsonProperty("worker_id")
+    private Long workerId;
+
+    @JsonProperty("worker_name")
+    private String workerName;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<DaySlots> days;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class DaySlots {
+        private LocalDate date;
+
+        @JsonProperty("available_slots")
+        private List<AvailabilityResponse.TimeSlot> availableSlots;
+    }
+}
@@ -0,0 +1,46 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hairhub.backend.domain.booking.AppointmentStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Status changes for several appointments at once (owner or worker).
+ * The cancellation reason applies to every item moved to CANCELLED.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "Debe indicar al menos una cita")
+    @Size(max = 200, message = "No se pueden actualizar más de 200 citas a la vez")
+    private List<@Valid @NotNull Item> items;
+
+    @Size(max = 500, message = "La razón de cancelación no puede exceder 500 caracteres")
+    @JsonProperty("cancellation_reason")
+    private String cancellationReason;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        @NotNull(message = "El ID de la cita es obligatorio")
+        @JsonProperty("appointment_id")
+        private Long appointmentId;
+
+        @NotNull(message = "El estado es obligatorio")
+        private AppointmentStatus status;
+    }
+}
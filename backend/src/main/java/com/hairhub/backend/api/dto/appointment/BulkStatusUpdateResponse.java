@@ -0,0 +1,44 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hairhub.backend.domain.booking.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status change, one result per requested item in request order.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusUpdateResponse {
+
+    private int updated;
+
+    private int failed;
+
+    private List<Result> results;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Result {
+        @JsonProperty("appointment_id")
+        private Long appointmentId;
+
+        @JsonProperty("previous_status")
+        private AppointmentStatus previousStatus;
+
+        private AppointmentStatus status;
+
+        private boolean success;
+
+        private String error;
+    }
+}
@@ -0,0 +1,67 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Availability of all active workers of a business for one service on one date.
+ * Each slot lists the workers that are free for the whole service duration.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BusinessAvailabilityResponse {
+
+    @JsonProperty("business_id")
+    private Long businessId;
+
+    @JsonProperty("service_id")
+    private Long serviceId;
+
+    @JsonProperty("service_name")
+    private String serviceName;
+
+    @JsonProperty("duration_minutes")
+    private Integer durationMinutes;
+
+    private LocalDate date;
+
+    private List<Slot> slots;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Slot {
+        @JsonProperty("start_time")
+        private LocalTime startTime;
+
+        @JsonProperty("end_time")
+        private LocalTime endTime;
+
+        private boolean available;
+
+        @JsonProperty("available_workers")
+        private List<WorkerOption> availableWorkers;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class WorkerOption {
+        @JsonProperty("worker_id")
+        private Long workerId;
+
+        @JsonProperty("worker_name")
+        private String workerName;
+    }
+}
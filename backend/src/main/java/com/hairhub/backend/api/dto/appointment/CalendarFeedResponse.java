@@ -0,0 +1,27 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarFeedResponse {
+
+    private String token;
+
+    @JsonProperty("feed_path")
+    private String feedPath;
+
+    @JsonProperty("worker_id")
+    private Long workerId;
+
+    @JsonProperty("created_at")
+    private LocalDateTime createdAt;
+}
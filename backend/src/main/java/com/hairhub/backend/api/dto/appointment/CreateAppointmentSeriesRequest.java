@@ -0,0 +1,52 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Recurring booking: the same worker and service every interval_weeks weeks, occurrences times.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateAppointmentSeriesRequest {
+
+    @NotNull(message = "El ID del trabajador es obligatorio")
+    @JsonProperty("worker_id")
+    private Long workerId;
+
+    @NotNull(message = "El ID del servicio es obligatorio")
+    @JsonProperty("service_id")
+    private Long serviceId;
+
+    @NotNull(message = "La fecha y hora de inicio es obligatoria")
+    @Future(message = "La cita debe ser en el futuro")
+    @JsonProperty("start_time")
+    private LocalDateTime startTime;
+
+    @NotNull(message = "El intervalo en semanas es obligatorio")
+    @Min(value = 1, message = "El intervalo debe ser de al menos 1 semana")
+    @Max(value = 8, message = "El intervalo no puede superar 8 semanas")
+    @JsonProperty("interval_weeks")
+    private Integer intervalWeeks;
+
+    @NotNull(message = "El número de citas es obligatorio")
+    @Min(value = 2, message = "La serie debe tener al menos 2 citas")
+    @Max(value = 26, message = "La serie no puede tener más de 26 citas")
+    private Integer occurrences;
+
+    @Size(max = 500, message = "Las notas no pueden exceder 500 caracteres")
+    @JsonProperty("client_notes")
+    private String clientNotes;
+}
@@ -0,0 +1,31 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HoldSlotRequest {
+
+    @NotNull(message = "El ID del trabajador es obligatorio")
+    @JsonProperty("worker_id")
+    private Long workerId;
+
+    @NotNull(message = "El ID del servicio es obligatorio")
+    @JsonProperty("service_id")
+    private Long serviceId;
+
+    @NotNull(message = "La fecha y hora de inicio es obligatoria")
+    @Future(message = "La cita debe ser en el futuro")
+    @JsonProperty("start_time")
+    private LocalDateTime startTime;
+}
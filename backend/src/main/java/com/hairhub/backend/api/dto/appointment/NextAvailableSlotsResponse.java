@@ -0,0 +1,40 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Earliest bookable start times for a worker or for any worker of a business.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NextAvailableSlotsResponse {
+
+    @JsonProperty("duration_minutes")
+    private Integer durationMinutes;
+
+    private List<Slot> slots;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Slot {
+        @JsonProperty("start_time")
+        private LocalDateTime startTime;
+
+        @JsonProperty("end_time")
+        private LocalDateTime endTime;
+
+        @JsonProperty("available_workers")
+        private List<BusinessAvailabilityResponse.WorkerOption> availableWorkers;
+    }
+}
@@ -0,0 +1,42 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Review matched by a full-text search
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewSearchResponse {
+
+    private Long id;
+    private Integer rating;
+    private String comment;
+
+    /**
+     * HTML-escaped fragments of the comment with the matched words wrapped in <mark>
+     */
+    private String highlight;
+
+    private Double rank;
+
+    @JsonProperty("appointment_id")
+    private Long appointmentId;
+
+    @JsonProperty("client_name")
+    private String clientName;
+
+    @JsonProperty("service_name")
+    private String serviceName;
+
+    @JsonProperty("created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,36 @@
+package com.hairhub.backend.api.dto.appointment;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotHoldResponse {
+
+    @JsonProperty("hold_id")
+    private UUID holdId;
+
+    @JsonProperty("worker_id")
+    private Long workerId;
+
+    @JsonProperty("service_id")
+    private Long serviceId;
+
+    @JsonProperty("start_time")
+    private LocalDateTime startTime;
+
+    @JsonProperty("end_time")
+    private LocalDateTime endTime;
+
+    @JsonProperty("expires_at")
+    private Instant expiresAt;
+}
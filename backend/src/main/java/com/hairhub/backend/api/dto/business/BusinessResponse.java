@@ -2,6 +2,7 @@ package com.hairhub.backend.api.dto.business;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.hairhub.backend.domain.business.BusinessCategory;
+import com.hairhub.backend.domain.business.ExpiredAppointmentPolicy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -32,6 +34,9 @@ public class BusinessResponse {
     @JsonProperty("cover_image_url")
     private String coverImageUrl;
 
+    private Double latitude;
+    private Double longitude;
+
     private boolean active;
 
     @JsonProperty("average_rating")
@@ -40,6 +45,12 @@ public class BusinessResponse {
     @JsonProperty("total_reviews")
     private Integer totalReviews;
 
+    @JsonProperty("rating_distribution")
+    private Map<Integer, Integer> ratingDistribution;
+
+    @JsonProperty("expired_appointment_policy")
+    private ExpiredAppointmentPolicy expiredAppointmentPolicy;
+
     @JsonProperty("owner_id")
     private Long ownerId;
 
@@ -0,0 +1,79 @@
+package com.hairhub.backend.api.dto.business;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Owner dashboard for a date range: totals, one entry per day and one per worker.
+ * Days without appointments are omitted from the daily series.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BusinessStatsResponse {
+
+    @JsonProperty("business_id")
+    private Long businessId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private Counters totals;
+
+    private List<DailyStats> daily;
+
+    private List<WorkerStats> workers;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Counters {
+        private int pending;
+        private int confirmed;
+        private int completed;
+        private int cancelled;
+
+        @JsonProperty("no_show")
+        private int noShow;
+
+        private int total;
+
+        @JsonProperty("booked_minutes")
+        private int bookedMinutes;
+
+        private BigDecimal revenue;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class DailyStats {
+        private LocalDate date;
+        private Counters stats;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class WorkerStats {
+        @JsonProperty("worker_id")
+        private Long workerId;
+
+        @JsonProperty("worker_name")
+        private String workerName;
+
+        private Counters stats;
+    }
+}
@@ -31,6 +31,9 @@ public class BusinessSummaryResponse {
     @JsonProperty("cover_image_url")
     private String coverImageUrl;
 
+    private Double latitude;
+    private Double longitude;
+
     @JsonProperty("average_rating")
     private BigDecimal averageRating;
 
@@ -39,5 +42,11 @@ public class BusinessSummaryResponse {
 
     @JsonProperty("services_count")
     private Integer servicesCount;
+
+    /**
+     * Distance from the search point, only set by the nearby search
+     */
+    @JsonProperty("distance_km")
+    private Double distanceKm;
 }
 
@@ -3,6 +3,8 @@ package com.hairhub.backend.api.dto.business;
 import com.hairhub.backend.domain.business.BusinessCategory;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Size;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -37,4 +39,12 @@ public class CreateBusinessRequest {
 
     @JsonProperty("cover_image_url")
     private String coverImageUrl;
+
+    @DecimalMin(value = "-90", message = "La latitud debe estar entre -90 y 90")
+    @DecimalMax(value = "90", message = "La latitud debe estar entre -90 y 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180", message = "La longitud debe estar entre -180 y 180")
+    @DecimalMax(value = "180", message = "La longitud debe estar entre -180 y 180")
+    private Double longitude;
 }
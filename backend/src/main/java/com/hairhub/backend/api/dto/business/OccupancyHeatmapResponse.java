@@ -0,0 +1,55 @@
+package com.hairhub.backend.api.dto.business;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Month heatmap of booked vs scheduled minutes per worker.
+ * Matrices are indexed [day of month - 1][hour of day].
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OccupancyHeatmapResponse {
+
+    @JsonProperty("business_id")
+    private Long businessId;
+
+    private YearMonth month;
+
+    @JsonProperty("days_in_month")
+    private Integer daysInMonth;
+
+    private List<WorkerOccupancy> workers;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class WorkerOccupancy {
+        @JsonProperty("worker_id")
+        private Long workerId;
+
+        @JsonProperty("worker_name")
+        private String workerName;
+
+        @JsonProperty("booked_minutes")
+        private int[][] bookedMinutes;
+
+        @JsonProperty("scheduled_minutes")
+        private int[][] scheduledMinutes;
+
+        @JsonProperty("total_booked_minutes")
+        private Integer totalBookedMinutes;
+
+        @JsonProperty("total_scheduled_minutes")
+        private Integer totalScheduledMinutes;
+    }
+}
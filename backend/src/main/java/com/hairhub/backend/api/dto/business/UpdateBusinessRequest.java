@@ -1,6 +1,9 @@
 package com.hairhub.backend.api.dto.business;
 
 import com.hairhub.backend.domain.business.BusinessCategory;
+import com.hairhub.backend.domain.business.ExpiredAppointmentPolicy;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Size;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -34,6 +37,17 @@ public class UpdateBusinessRequest {
     @JsonProperty("cover_image_url")
     private String coverImageUrl;
 
+    @DecimalMin(value = "-90", message = "La latitud debe estar entre -90 y 90")
+    @DecimalMax(value = "90", message = "La latitud debe estar entre -90 y 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180", message = "La longitud debe estar entre -180 y 180")
+    @DecimalMax(value = "180", message = "La longitud debe estar entre -180 y 180")
+    private Double longitude;
+
     private Boolean active;
+
+    @JsonProperty("expired_appointment_policy")
+    private ExpiredAppointmentPolicy expiredAppointmentPolicy;
 }
 
@@ -0,0 +1,43 @@
+package com.hairhub.backend.api.dto.business;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Entry of the worker leaderboard of a business
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkerRankingResponse {
+
+    private Integer rank;
+
+    @JsonProperty("worker_id")
+    private Long workerId;
+
+    @JsonProperty("full_name")
+    private String fullName;
+
+    @JsonProperty("avatar_url")
+    private String avatarUrl;
+
+    private String position;
+
+    @JsonProperty("average_rating")
+    private BigDecimal averageRating;
+
+    @JsonProperty("total_reviews")
+    private Integer totalReviews;
+
+    /**
+     * Bayesian average used for the ranking (rating shrunk towards the business mean)
+     */
+    private BigDecimal score;
+}
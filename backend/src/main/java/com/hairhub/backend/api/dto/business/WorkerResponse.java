@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -35,6 +36,12 @@ public class WorkerResponse {
     @JsonProperty("business_name")
     private String businessName;
 
+    @JsonProperty("average_rating")
+    private BigDecimal averageRating;
+
+    @JsonProperty("total_reviews")
+    private Integer totalReviews;
+
     @JsonProperty("created_at")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,44 @@
+package com.hairhub.backend.api.dto.business;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Dated exception to the weekly schedule.
+ * Without times and is_available=false the whole days are off (holidays, vacations).
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkerScheduleExceptionRequest {
+
+    @NotNull(message = "La fecha de inicio es obligatoria")
+    @JsonProperty("start_date")
+    private LocalDate startDate;
+
+    @NotNull(message = "La fecha de fin es obligatoria")
+    @JsonProperty("end_date")
+    private LocalDate endDate;
+
+    @JsonProperty("start_time")
+    private LocalTime startTime;
+
+    @JsonProperty("end_time")
+    private LocalTime endTime;
+
+    @Builder.Default
+    @JsonProperty("is_available")
+    private Boolean available = false;
+
+    @Size(max = 255, message = "El motivo no puede exceder 255 caracteres")
+    private String reason;
+}
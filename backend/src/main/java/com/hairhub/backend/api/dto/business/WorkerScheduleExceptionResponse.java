@@ -0,0 +1,39 @@
+package com.hairhub.backend.api.dto.business;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkerScheduleExceptionResponse {
+
+    private Long id;
+
+    @JsonProperty("worker_id")
+    private Long workerId;
+
+    @JsonProperty("start_date")
+    private LocalDate startDate;
+
+    @JsonProperty("end_date")
+    private LocalDate endDate;
+
+    @JsonProperty("start_time")
+    private LocalTime startTime;
+
+    @JsonProperty("end_time")
+    private LocalTime endTime;
+
+    @JsonProperty("is_available")
+    private boolean available;
+
+    private String reason;
+}
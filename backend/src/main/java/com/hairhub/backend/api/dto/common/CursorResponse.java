@@ -0,0 +1,49 @@
+package com.hairhub.backend.api.dto.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Slice of a keyset-paginated list. There is no total count: the next page is
+ * requested with {@code next_cursor} until {@code has_next} is false.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorResponse<T> {
+
+    private List<T> content;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    @JsonProperty("has_next")
+    private boolean hasNext;
+
+    @JsonProperty("page_size")
+    private int pageSize;
+
+    /**
+     * Build a slice from rows fetched with a limit of {@code size + 1}; the extra row only
+     * tells whether another page exists and is not returned.
+     */
+    public static <R, T> CursorResponse<T> of(List<R> rows, int size,
+                                              Function<R, T> mapper, Function<R, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .pageSize(size)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.hairhub.backend.api.exception;
 
+import com.hairhub.backend.domain.booking.Appointment;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -70,6 +73,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (isAppointmentOverlap(ex)) {
+            return handleConflict(new ConflictException("El trabajador ya tiene una cita en ese horario"));
+        }
+        return handleGenericException(ex);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentials(BadCredentialsException ex) {
         ErrorResponse error = ErrorResponse.builder()
@@ -121,5 +132,14 @@ public class GlobalExceptionHandler {
                 .build();
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
-}
 
+    /**
+     * Exclusion violation (SQLSTATE 23P01) raised by the appointment overlap constraint
+     */
+    private boolean isAppointmentOverlap(DataIntegrityViolationException ex) {
+        Throwable cause = ex.getMostSpecificCause();
+        return cause instanceof SQLException sqlException
+                && "23P01".equals(sqlException.getSQLState())
+                && String.valueOf(sqlException.getMessage()).contains(Appointment.NO_OVERLAP_CONSTRAINT);
+    }
+}
@@ -0,0 +1,61 @@
+package com.hairhub.backend.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Background job that keeps the monthly partitions of appointments in shape (V11):
+ * creates the coming months, adds BRIN indexes to closed months and, when a retention
+ * period is configured, detaches the oldest months.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class AppointmentPartitionMaintenance {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.partitions.months-ahead:12}")
+    private int monthsAhead;
+
+    @Value("${app.partitions.brin-after-months:3}")
+    private int brinAfterMonths;
+
+    @Value("${app.partitions.retention-months:0}")
+    private int retentionMonths;
+
+    @Scheduled(initialDelayString = "${app.partitions.initial-delay-ms:30000}",
+            fixedDelayString = "${app.partitions.interval-ms:86400000}")
+    public void maintain() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT appointments_ensure_partitions(?)", Integer.class, monthsAhead);
+
+        Integer indexed = jdbcTemplate.queryForObject(
+                "SELECT appointments_brin_partitions_before(?)", Integer.class,
+                Date.valueOf(currentMonth.minusMonths(brinAfterMonths)));
+
+        // Disabled by default: reviews of detached appointments would lose their appointment
+        List<String> detached = List.of();
+        if (retentionMonths > 0) {
+            detached = jdbcTemplate.queryForList(
+                    "SELECT appointments_detach_partitions_before(?)", String.class,
+                    Date.valueOf(currentMonth.minusMonths(retentionMonths)));
+        }
+
+        if (created != null && created > 0 || indexed != null && indexed > 0 || !detached.isEmpty()) {
+            log.info("Appointment partitions: {} created, {} BRIN indexed, detached {}", created, indexed, detached);
+        }
+    }
+}
@@ -1,31 +1,51 @@
 package com.hairhub.backend.api.service;
 
 import com.hairhub.backend.api.dto.appointment.*;
+import com.hairhub.backend.api.dto.common.CursorResponse;
+import com.hairhub.backend.api.dto.common.PageCursor;
 import com.hairhub.backend.api.dto.common.PageResponse;
 import com.hairhub.backend.api.exception.BadRequestException;
 import com.hairhub.backend.api.exception.ConflictException;
 import com.hairhub.backend.api.exception.ForbiddenException;
 import com.hairhub.backend.api.exception.ResourceNotFoundException;
+import com.hairhub.backend.api.service.availability.DayAvailability;
+import com.hairhub.backend.api.service.availability.SlotHold;
+import com.hairhub.backend.api.service.availability.SlotHoldRegistry;
+import com.hairhub.backend.api.service.availability.TimeWindow;
+import com.hairhub.backend.api.service.availability.WorkerAvailabilityIndex;
+import com.hairhub.backend.api.service.availability.WorkerScheduleCache;
+import com.hairhub.backend.api.service.availability.WorkerScheduleSnapshot;
 import com.hairhub.backend.domain.booking.*;
 import com.hairhub.backend.domain.business.*;
 import com.hairhub.backend.domain.user.User;
 import com.hairhub.backend.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -35,15 +55,43 @@ public class AppointmentService {
     private final ReviewRepository reviewRepository;
     private final WorkerRepository workerRepository;
     private final ServiceRepository serviceRepository;
-    private final WorkerScheduleRepository workerScheduleRepository;
     private final UserRepository userRepository;
     private final BusinessRepository businessRepository;
+    private final WorkerAvailabilityIndex availabilityIndex;
+    private final WorkerScheduleCache scheduleCache;
+    private final SlotHoldRegistry slotHolds;
+
+    /**
+     * Step between consecutive slot start times offered to clients
+     */
+    private static final int SLOT_STEP_MINUTES = 30;
+
+    /**
+     * Longest range accepted by the multi-day availability endpoint
+     */
+    private static final int MAX_AVAILABILITY_RANGE_DAYS = 62;
+
+    /**
+     * Limits of the "next available slots" search
+     */
+    private static final int DEFAULT_NEXT_SLOTS = 5;
+    private static final int MAX_NEXT_SLOTS = 20;
+    private static final int NEXT_SLOTS_HORIZON_DAYS = 60;
+    private static final int MAX_NEXT_SLOTS_WINDOW_DAYS = 16;
+
+    private static final String SLOT_HELD_MESSAGE = "Este horario está reservado temporalmente por otro cliente";
 
     /**
      * Create a new appointment
      */
     @Transactional
     public AppointmentResponse createAppointment(Long clientId, CreateAppointmentRequest request) {
+        // A start held by another client is rejected before any query
+        if (slotHolds.isHeldByOther(request.getWorkerId(), clientId,
+                request.getStartTime(), request.getStartTime().plusMinutes(1))) {
+            throw new ConflictException(SLOT_HELD_MESSAGE);
+        }
+
         User client = userRepository.findById(clientId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario", clientId));
 
@@ -69,17 +117,13 @@ public class AppointmentService {
         LocalDateTime startTime = request.getStartTime();
         LocalDateTime endTime = startTime.plusMinutes(service.getDurationMinutes());
 
+        if (slotHolds.isHeldByOther(worker.getId(), clientId, startTime, endTime)) {
+            throw new ConflictException(SLOT_HELD_MESSAGE);
+        }
+
         // Validate worker availability (schedule)
         validateWorkerSchedule(worker.getId(), startTime, endTime);
 
-        // Check for overlapping appointments
-        List<Appointment> overlapping = appointmentRepository.findOverlappingAppointments(
-                worker.getId(), startTime, endTime);
-
-        if (!overlapping.isEmpty()) {
-            throw new ConflictException("El trabajador ya tiene una cita en ese horario");
-        }
-
         Appointment appointment = Appointment.builder()
                 .client(client)
                 .worker(worker)
@@ -90,23 +134,167 @@ public class AppointmentService {
                 .clientNotes(request.getClientNotes())
                 .build();
 
+        // Overlaps are rejected by the appointments_no_overlap constraint on insert
         appointment = appointmentRepository.save(appointment);
+        availabilityIndex.occupy(worker.getId(), startTime, endTime);
+        slotHolds.releaseClient(worker.getId(), clientId);
 
         return toResponse(appointment);
     }
 
+    /**
+     * Hold a free slot for the client for a few minutes while they confirm the booking
+     */
+    @Transactional(readOnly = true)
+    public SlotHoldResponse holdSlot(Long clientId, HoldSlotRequest request) {
+        Worker worker = workerRepository.findById(request.getWorkerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Trabajador", request.getWorkerId()));
+
+        if (!worker.isActive()) {
+            throw new BadRequestException("El trabajador no está disponible");
+        }
+
+        com.hairhub.backend.domain.business.Service service = serviceRepository.findById(request.getServiceId())
+                .orElseThrow(() -> new ResourceNotFoundException("Servicio", request.getServiceId()));
+
+        if (!service.isActive()) {
+            throw new BadRequestException("El servicio no está disponible");
+        }
+
+        if (!service.getBusiness().getId().equals(worker.getBusiness().getId())) {
+            throw new BadRequestException("El servicio no pertenece al negocio del trabajador seleccionado");
+        }
+
+        LocalDateTime startTime = request.getStartTime();
+        LocalDateTime endTime = startTime.plusMinutes(service.getDurationMinutes());
+
+        validateWorkerSchedule(worker.getId(), startTime, endTime);
+
+        DayAvailability day = availabilityIndex.peek(worker.getId(), startTime.toLocalDate());
+        if (day == null) {
+            day = loadDayAvailability(worker.getId(), startTime.toLocalDate());
+        }
+        int startMinute = startTime.getHour() * 60 + startTime.getMinute();
+        if (!day.isFree(startMinute, startMinute + service.getDurationMinutes())) {
+            throw new ConflictException("El trabajador ya tiene una cita en ese horario");
+        }
+
+        SlotHold hold = slotHolds.hold(worker.getId(), clientId, startTime, endTime);
+
+        return SlotHoldResponse.builder()
+                .holdId(hold.id())
+                .workerId(worker.getId())
+                .serviceId(service.getId())
+                .startTime(startTime)
+                .endTime(endTime)
+                .expiresAt(hold.expiresAt())
+                .build();
+    }
+
+    /**
+     * Book a recurring series with the same worker and service.
+     * All occurrences are checked against one schedule query and one range query; conflicting
+     * occurrences are reported and the rest are inserted in the same transaction.
+     */
+    @Transactional
+    public AppointmentSeriesResponse createAppointmentSeries(Long clientId, CreateAppointmentSeriesRequest request) {
+        User client = userRepository.findById(clientId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", clientId));
+
+        Worker worker = workerRepository.findById(request.getWorkerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Trabajador", request.getWorkerId()));
+
+        if (!worker.isActive()) {
+            throw new BadRequestException("El trabajador no está disponible");
+        }
+
+        com.hairhub.backend.domain.business.Service service = serviceRepository.findById(request.getServiceId())
+                .orElseThrow(() -> new ResourceNotFoundException("Servicio", request.getServiceId()));
+
+        if (!service.isActive()) {
+            throw new BadRequestException("El servicio no está disponible");
+        }
+
+        if (!service.getBusiness().getId().equals(worker.getBusiness().getId())) {
+            throw new BadRequestException("El servicio no pertenece al negocio del trabajador seleccionado");
+        }
+
+        int duration = service.getDurationMinutes();
+        List<LocalDateTime> starts = IntStream.range(0, request.getOccurrences())
+                .mapToObj(i -> request.getStartTime().plusWeeks((long) i * request.getIntervalWeeks()))
+                .collect(Collectors.toList());
+        LocalDateTime seriesEnd = starts.get(starts.size() - 1).plusMinutes(duration);
+
+        WorkerScheduleSnapshot schedule = scheduleCache.get(worker.getId());
+        List<Appointment> existing = appointmentRepository.findOverlappingAppointments(
+                worker.getId(), request.getStartTime(), seriesEnd);
+
+        List<Appointment> toCreate = new ArrayList<>();
+        List<AppointmentSeriesResponse.Conflict> conflicts = new ArrayList<>();
+        for (LocalDateTime start : starts) {
+            LocalDateTime end = start.plusMinutes(duration);
+
+            String reason = null;
+            if (!schedule.covers(start, end)) {
+                reason = "El trabajador no está disponible en ese horario";
+            } else if (existing.stream().anyMatch(a -> a.getStartTime().isBefore(end) && a.getEndTime().isAfter(start))) {
+                reason = "El trabajador ya tiene una cita en ese horario";
+            } else if (slotHolds.isHeldByOther(worker.getId(), clientId, start, end)) {
+                reason = SLOT_HELD_MESSAGE;
+            }
+
+            if (reason != null) {
+                conflicts.add(AppointmentSeriesResponse.Conflict.builder()
+                        .startTime(start)
+                        .endTime(end)
+                        .reason(reason)
+                        .build());
+                continue;
+            }
+
+            toCreate.add(Appointment.builder()
+                    .client(client)
+                    .worker(worker)
+                    .service(service)
+                    .startTime(start)
+                    .endTime(end)
+                    .status(AppointmentStatus.PENDING)
+                    .clientNotes(request.getClientNotes())
+                    .build());
+        }
+
+        // A concurrent booking of any occurrence fails the whole insert on the overlap constraint
+        List<Appointment> saved = appointmentRepository.saveAll(toCreate);
+        saved.forEach(a -> availabilityIndex.occupy(worker.getId(), a.getStartTime(), a.getEndTime()));
+        slotHolds.releaseClient(worker.getId(), clientId);
+
+        return AppointmentSeriesResponse.builder()
+                .created(saved.stream().map(this::toResponse).collect(Collectors.toList()))
+                .conflicts(conflicts)
+                .build();
+    }
+
+    /**
+     * Release a slot hold of the client
+     */
+    public void releaseHold(UUID holdId, Long clientId) {
+        if (!slotHolds.release(holdId, clientId)) {
+            throw new ResourceNotFoundException("Reserva temporal no encontrada");
+        }
+    }
+
     /**
      * Get appointment by ID
      */
     @Transactional(readOnly = true)
     public AppointmentResponse getAppointmentById(Long id, Long userId) {
-        Appointment appointment = appointmentRepository.findById(id)
+        AppointmentView appointment = appointmentRepository.findViewById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Cita", id));
 
         // Verify access (client, worker, or business owner)
-        boolean isClient = appointment.getClient().getId().equals(userId);
-        boolean isWorker = appointment.getWorker().getUser().getId().equals(userId);
-        boolean isOwner = appointment.getWorker().getBusiness().getOwner().getId().equals(userId);
+        boolean isClient = appointment.clientId().equals(userId);
+        boolean isWorker = appointment.workerUserId().equals(userId);
+        boolean isOwner = appointment.businessOwnerId().equals(userId);
 
         if (!isClient && !isWorker && !isOwner) {
             throw new ForbiddenException("No tienes permiso para ver esta cita");
@@ -120,12 +308,29 @@ public class AppointmentService {
      */
     @Transactional(readOnly = true)
     public PageResponse<AppointmentResponse> getClientAppointments(Long clientId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("startTime").descending());
-        Page<Appointment> appointments = appointmentRepository.findByClientIdOrderByStartTimeDesc(clientId, pageable);
+        // Ordering (start time, then id) is part of the query
+        Pageable pageable = PageRequest.of(page, size);
+        Page<AppointmentView> appointments = appointmentRepository.findViewsByClientId(clientId, pageable);
 
         return toPageResponse(appointments);
     }
 
+    /**
+     * Get appointments for a client by keyset cursor (no total count)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<AppointmentResponse> getClientAppointments(Long clientId, String cursor, int size) {
+        PageCursor.validateSize(size);
+        PageCursor after = PageCursor.decode(cursor);
+
+        List<AppointmentView> rows = after == null
+                ? appointmentRepository.findViewSliceByClientId(clientId, Limit.of(size + 1))
+                : appointmentRepository.findViewSliceByClientIdAfter(
+                        clientId, after.keyAsDateTime(), after.id(), Limit.of(size + 1));
+
+        return CursorResponse.of(rows, size, this::toResponse, v -> PageCursor.of(v.startTime(), v.id()));
+    }
+
     /**
      * Get upcoming appointments for a client
      */
@@ -153,12 +358,39 @@ public class AppointmentService {
             throw new ForbiddenException("No tienes permiso para ver estas citas");
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("startTime").descending());
-        Page<Appointment> appointments = appointmentRepository.findByWorkerIdOrderByStartTimeDesc(workerId, pageable);
+        Pageable pageable = PageRequest.of(page, size);
+        Page<AppointmentView> appointments = appointmentRepository.findViewsByWorkerId(workerId, pageable);
 
         return toPageResponse(appointments);
     }
 
+    /**
+     * Get appointments for a worker by keyset cursor (no total count)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<AppointmentResponse> getWorkerAppointments(Long workerId, Long userId, String cursor, int size) {
+        PageCursor.validateSize(size);
+        PageCursor after = PageCursor.decode(cursor);
+
+        Worker worker = workerRepository.findById(workerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Trabajador", workerId));
+
+        // Verify access
+        boolean isWorker = worker.getUser().getId().equals(userId);
+        boolean isOwner = worker.getBusiness().getOwner().getId().equals(userId);
+
+        if (!isWorker && !isOwner) {
+            throw new ForbiddenException("No tienes permiso para ver estas citas");
+        }
+
+        List<AppointmentView> rows = after == null
+                ? appointmentRepository.findViewSliceByWorkerId(workerId, Limit.of(size + 1))
+                : appointmentRepository.findViewSliceByWorkerIdAfter(
+                        workerId, after.keyAsDateTime(), after.id(), Limit.of(size + 1));
+
+        return CursorResponse.of(rows, size, this::toResponse, v -> PageCursor.of(v.startTime(), v.id()));
+    }
+
     /**
      * Get upcoming appointments for a worker
      */
@@ -204,6 +436,10 @@ public class AppointmentService {
             if (request.getStatus() == AppointmentStatus.CANCELLED) {
                 appointment.setCancellationReason(request.getCancellationReason());
             }
+            if (!request.getStatus().occupiesSlot()) {
+                availabilityIndex.release(appointment.getWorker().getId(),
+                        appointment.getStartTime(), appointment.getEndTime());
+            }
         }
 
         appointment = appointmentRepository.save(appointment);
@@ -211,6 +447,81 @@ public class AppointmentService {
         return toResponse(appointment);
     }
 
+    /**
+     * Change the status of several appointments (owner or worker).
+     * Authorization and transitions are checked in memory over one projection query; the valid
+     * items are then applied with one UPDATE per target status. Invalid items are reported, not thrown.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse updateAppointmentStatuses(Long userId, BulkStatusUpdateRequest request) {
+        List<Long> ids = request.getItems().stream()
+                .map(BulkStatusUpdateRequest.Item::getAppointmentId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, AppointmentStatusView> views = appointmentRepository.findStatusViewsByIds(ids).stream()
+                .collect(Collectors.toMap(AppointmentStatusView::id, v -> v));
+
+        List<BulkStatusUpdateResponse.Result> results = new ArrayList<>();
+        Map<AppointmentStatus, List<AppointmentStatusView>> byTarget = new EnumMap<>(AppointmentStatus.class);
+        Set<Long> seen = new HashSet<>();
+
+        for (BulkStatusUpdateRequest.Item item : request.getItems()) {
+            AppointmentStatusView view = views.get(item.getAppointmentId());
+            BulkStatusUpdateResponse.Result result = BulkStatusUpdateResponse.Result.builder()
+                    .appointmentId(item.getAppointmentId())
+                    .previousStatus(view != null ? view.status() : null)
+                    .status(item.getStatus())
+                    .build();
+            results.add(result);
+
+            if (!seen.add(item.getAppointmentId())) {
+                result.setError("La cita aparece más de una vez en la solicitud");
+            } else if (view == null) {
+                result.setError("Cita no encontrada");
+            } else if (!view.workerUserId().equals(userId) && !view.businessOwnerId().equals(userId)) {
+                result.setError("No tienes permiso para modificar esta cita");
+            } else {
+                try {
+                    validateStatusTransition(view.status(), item.getStatus(), false);
+                    byTarget.computeIfAbsent(item.getStatus(), s -> new ArrayList<>()).add(view);
+                    result.setSuccess(true);
+                } catch (BadRequestException | ForbiddenException e) {
+                    result.setError(e.getMessage());
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<AppointmentStatus, List<AppointmentStatusView>> group : byTarget.entrySet()) {
+            List<AppointmentStatusView> members = group.getValue();
+            List<Long> groupIds = members.stream().map(AppointmentStatusView::id).collect(Collectors.toList());
+            Set<AppointmentStatus> fromStatuses = members.stream()
+                    .map(AppointmentStatusView::status)
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(AppointmentStatus.class)));
+
+            int updated = group.getKey() == AppointmentStatus.CANCELLED
+                    ? appointmentRepository.cancelAll(groupIds, request.getCancellationReason(), fromStatuses, now)
+                    : appointmentRepository.updateStatuses(groupIds, group.getKey(), fromStatuses, now);
+
+            // Another request changed some of them after they were read; roll the whole batch back
+            if (updated != groupIds.size()) {
+                throw new ConflictException("Algunas citas cambiaron de estado durante la actualización, inténtalo de nuevo");
+            }
+
+            if (!group.getKey().occupiesSlot()) {
+                members.forEach(v -> availabilityIndex.release(v.workerId(), v.startTime(), v.endTime()));
+            }
+        }
+
+        int succeeded = (int) results.stream().filter(BulkStatusUpdateResponse.Result::isSuccess).count();
+        return BulkStatusUpdateResponse.builder()
+                .updated(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
     /**
      * Cancel appointment
      */
@@ -237,6 +548,8 @@ public class AppointmentService {
         appointment.setCancellationReason(reason);
 
         appointment = appointmentRepository.save(appointment);
+        availabilityIndex.release(appointment.getWorker().getId(),
+                appointment.getStartTime(), appointment.getEndTime());
 
         return toResponse(appointment);
     }
@@ -266,14 +579,16 @@ public class AppointmentService {
 
         Review review = Review.builder()
                 .appointment(appointment)
+                .business(appointment.getWorker().getBusiness())
                 .rating(request.getRating())
                 .comment(request.getComment())
                 .build();
 
         review = reviewRepository.save(review);
 
-        // Update business rating
-        updateBusinessRating(appointment.getWorker().getBusiness().getId());
+        // Update business and worker rating counters
+        businessRepository.addRating(appointment.getWorker().getBusiness().getId(), request.getRating());
+        workerRepository.addRating(appointment.getWorker().getId(), request.getRating());
 
         return toReviewResponse(review, appointment);
     }
@@ -286,26 +601,77 @@ public class AppointmentService {
         Business business = businessRepository.findById(businessId)
                 .orElseThrow(() -> new ResourceNotFoundException("Negocio", businessId));
 
-        return reviewRepository.findByBusinessId(businessId)
+        return reviewRepository.findViewsByBusinessId(business.getId())
                 .stream()
-                .map(review -> toReviewResponse(review, review.getAppointment()))
+                .map(this::toReviewResponse)
                 .collect(Collectors.toList());
     }
 
-    // ========== HELPER METHODS ==========
+    /**
+     * Full-text search over the reviews of a business (owner only), best match first.
+     * Each page is a single query; the total comes from a window count on the same rows.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ReviewSearchResponse> searchBusinessReviews(
+            Long businessId, Long userId, String query, int page, int size) {
 
-    private void validateWorkerSchedule(Long workerId, LocalDateTime startTime, LocalDateTime endTime) {
-        int dayOfWeek = startTime.getDayOfWeek().getValue() % 7; // Convert to 0=Sunday format
-        LocalTime start = startTime.toLocalTime();
-        LocalTime end = endTime.toLocalTime();
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("El texto de búsqueda es obligatorio");
+        }
+        if (page < 0) {
+            throw new BadRequestException("El número de página no puede ser negativo");
+        }
+        PageCursor.validateSize(size);
 
-        List<WorkerSchedule> schedules = workerScheduleRepository.findByWorkerIdAndAvailableTrue(workerId);
+        Business business = businessRepository.findById(businessId)
+                .orElseThrow(() -> new ResourceNotFoundException("Negocio", businessId));
+        if (!business.getOwner().getId().equals(userId)) {
+            throw new ForbiddenException("No tienes permiso para ver las reseñas de este negocio");
+        }
 
-        boolean isAvailable = schedules.stream()
-                .filter(s -> s.getDayOfWeek() == dayOfWeek)
-                .anyMatch(s -> !start.isBefore(s.getStartTime()) && !end.isAfter(s.getEndTime()));
+        List<ReviewSearchRow> rows = reviewRepository.searchByBusinessId(
+                businessId, query.trim(), size, (long) page * size);
+
+        // Past the last page there are no rows to carry the total
+        long total = rows.isEmpty() ? 0 : rows.get(0).getTotal();
+        int totalPages = (int) ((total + size - 1) / size);
+
+        return PageResponse.<ReviewSearchResponse>builder()
+                .content(rows.stream().map(this::toReviewSearchResponse).collect(Collectors.toList()))
+                .totalElements(total)
+                .totalPages(totalPages)
+                .currentPage(page)
+                .pageSize(size)
+                .first(page == 0)
+                .last(page >= totalPages - 1)
+                .empty(rows.isEmpty())
+                .build();
+    }
+
+    /**
+     * Get reviews for a business by keyset cursor, newest first (one query per page)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ReviewResponse> getBusinessReviews(Long businessId, String cursor, int size) {
+        PageCursor.validateSize(size);
+        PageCursor after = PageCursor.decode(cursor);
+
+        if (!businessRepository.existsById(businessId)) {
+            throw new ResourceNotFoundException("Negocio", businessId);
+        }
+
+        List<ReviewView> rows = after == null
+                ? reviewRepository.findViewSliceByBusinessId(businessId, Limit.of(size + 1))
+                : reviewRepository.findViewSliceByBusinessIdAfter(
+                        businessId, after.keyAsDateTime(), after.id(), Limit.of(size + 1));
+
+        return CursorResponse.of(rows, size, this::toReviewResponse, v -> PageCursor.of(v.createdAt(), v.id()));
+    }
 
-        if (!isAvailable) {
+    // ========== HELPER METHODS ==========
+
+    private void validateWorkerSchedule(Long workerId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!scheduleCache.get(workerId).covers(startTime, endTime)) {
             throw new BadRequestException("El trabajador no está disponible en ese horario");
         }
     }
@@ -337,24 +703,6 @@ public class AppointmentService {
         }
     }
 
-    private void updateBusinessRating(Long businessId) {
-        List<Review> reviews = reviewRepository.findByBusinessId(businessId);
-
-        if (reviews.isEmpty()) {
-            return;
-        }
-
-        double average = reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
-
-        Business business = businessRepository.findById(businessId).orElseThrow();
-        business.setAverageRating(BigDecimal.valueOf(average).setScale(1, RoundingMode.HALF_UP));
-        business.setTotalReviews(reviews.size());
-        businessRepository.save(business);
-    }
-
     private AppointmentResponse toResponse(Appointment appointment) {
         return AppointmentResponse.builder()
                 .id(appointment.getId())
@@ -403,7 +751,84 @@ public class AppointmentService {
                 .build();
     }
 
-    private PageResponse<AppointmentResponse> toPageResponse(Page<Appointment> page) {
+    private ReviewSearchResponse toReviewSearchResponse(ReviewSearchRow row) {
+        return ReviewSearchResponse.builder()
+                .id(row.getId())
+                .rating(row.getRating())
+                .comment(row.getComment())
+                .highlight(escapeHighlight(row.getHighlight()))
+                .rank(row.getRank())
+                .appointmentId(row.getAppointmentId())
+                .clientName(row.getClientName())
+                .serviceName(row.getServiceName())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Escape the comment as HTML but keep the <mark> tags added by ts_headline
+     */
+    private static String escapeHighlight(String highlight) {
+        if (highlight == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(highlight)
+                .replace("&lt;mark&gt;", "<mark>")
+                .replace("&lt;/mark&gt;", "</mark>");
+    }
+
+    private ReviewResponse toReviewResponse(ReviewView review) {
+        return ReviewResponse.builder()
+                .id(review.id())
+                .rating(review.rating())
+                .comment(review.comment())
+                .appointmentId(review.appointmentId())
+                .clientName(review.clientName())
+                .serviceName(review.serviceName())
+                .createdAt(review.createdAt())
+                .build();
+    }
+
+    /**
+     * Map a flat view; no association is touched, so no extra query is issued
+     */
+    private AppointmentResponse toResponse(AppointmentView appointment) {
+        return AppointmentResponse.builder()
+                .id(appointment.id())
+                .clientId(appointment.clientId())
+                .clientName(appointment.clientName())
+                .clientPhone(appointment.clientPhone())
+                .workerId(appointment.workerId())
+                .workerName(appointment.workerName())
+                .serviceId(appointment.serviceId())
+                .serviceName(appointment.serviceName())
+                .servicePrice(appointment.servicePrice())
+                .serviceDuration(appointment.serviceDuration())
+                .businessId(appointment.businessId())
+                .businessName(appointment.businessName())
+                .businessAddress(appointment.businessAddress())
+                .startTime(appointment.startTime())
+                .endTime(appointment.endTime())
+                .status(appointment.status())
+                .clientNotes(appointment.clientNotes())
+                .cancellationReason(appointment.cancellationReason())
+                .createdAt(appointment.createdAt())
+                .hasReview(appointment.hasReview())
+                .review(appointment.hasReview()
+                        ? ReviewResponse.builder()
+                                .id(appointment.reviewId())
+                                .rating(appointment.reviewRating())
+                                .comment(appointment.reviewComment())
+                                .appointmentId(appointment.id())
+                                .clientName(appointment.clientName())
+                                .serviceName(appointment.serviceName())
+                                .createdAt(appointment.reviewCreatedAt())
+                                .build()
+                        : null)
+                .build();
+    }
+
+    private PageResponse<AppointmentResponse> toPageResponse(Page<AppointmentView> page) {
         List<AppointmentResponse> content = page.getContent().stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
@@ -435,62 +860,13 @@ public class AppointmentService {
         // Default duration is 30 minutes
         int duration = durationMinutes != null ? durationMinutes : 30;
 
-        // Get day of week (1=Monday to 7=Sunday in Java, convert to 0=Sunday for our system)
-        int dayOfWeek = date.getDayOfWeek().getValue() % 7; 
-
-        // Find worker's schedule for this day
-        List<WorkerSchedule> schedules = workerScheduleRepository.findByWorkerIdAndAvailableTrue(workerId);
-        WorkerSchedule daySchedule = schedules.stream()
-                .filter(s -> s.getDayOfWeek() == dayOfWeek)
-                .findFirst()
-                .orElse(null);
-
-        List<AvailabilityResponse.TimeSlot> slots = new ArrayList<>();
-
-        if (daySchedule != null) {
-            // Get existing appointments for this worker on this date
-            LocalDateTime dayStart = date.atStartOfDay();
-            LocalDateTime dayEnd = date.atTime(23, 59, 59);
-            
-            List<Appointment> existingAppointments = appointmentRepository.findByWorkerIdAndDateRange(
-                    workerId, dayStart, dayEnd);
-
-            // Generate time slots
-            LocalTime currentTime = daySchedule.getStartTime();
-            LocalTime endTime = daySchedule.getEndTime();
-
-            while (currentTime.plusMinutes(duration).isBefore(endTime) || 
-                   currentTime.plusMinutes(duration).equals(endTime)) {
-                
-                LocalTime slotEnd = currentTime.plusMinutes(duration);
-                final LocalTime slotStart = currentTime;
-                
-                // Check if slot overlaps with any existing appointment
-                boolean isAvailable = existingAppointments.stream()
-                        .filter(a -> a.getStatus() != AppointmentStatus.CANCELLED)
-                        .noneMatch(a -> {
-                            LocalTime apptStart = a.getStartTime().toLocalTime();
-                            LocalTime apptEnd = a.getEndTime().toLocalTime();
-                            // Check for overlap
-                            return !(slotEnd.isBefore(apptStart) || slotEnd.equals(apptStart) ||
-                                    slotStart.isAfter(apptEnd) || slotStart.equals(apptEnd));
-                        });
-
-                // Don't allow bookings in the past
-                if (date.equals(LocalDate.now()) && currentTime.isBefore(LocalTime.now())) {
-                    isAvailable = false;
-                }
-
-                slots.add(AvailabilityResponse.TimeSlot.builder()
-                        .startTime(currentTime)
-                        .endTime(slotEnd)
-                        .available(isAvailable)
-                        .build());
-
-                currentTime = currentTime.plusMinutes(30); // 30-minute intervals
-            }
+        DayAvailability day = availabilityIndex.peek(workerId, date);
+        if (day == null) {
+            day = loadDayAvailability(workerId, date);
         }
 
+        List<AvailabilityResponse.TimeSlot> slots = buildTimeSlots(day, duration, slotHolds.activeHolds(workerId));
+
         String workerName = worker.getUser().getProfile() != null 
                 ? worker.getUser().getProfile().getFullName() 
                 : worker.getUser().getEmail();
@@ -502,5 +878,370 @@ public class AppointmentService {
                 .availableSlots(slots)
                 .build();
     }
-}
 
+    /**
+     * Get available time slots for a worker over a date range (inclusive).
+     * Missing days are built from one schedule query and one appointment query for the whole range.
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityRangeResponse getWorkerAvailabilityRange(Long workerId, LocalDate from, LocalDate to,
+            Integer durationMinutes) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("La fecha final debe ser igual o posterior a la fecha inicial");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_RANGE_DAYS) {
+            throw new BadRequestException("El rango máximo es de " + MAX_AVAILABILITY_RANGE_DAYS + " días");
+        }
+
+        Worker worker = workerRepository.findById(workerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Trabajador", workerId));
+
+        if (!worker.isActive()) {
+            throw new BadRequestException("El trabajador no está disponible");
+        }
+
+        int duration = durationMinutes != null ? durationMinutes : 30;
+        List<SlotHold> holds = slotHolds.activeHolds(workerId);
+
+        Map<LocalDate, DayAvailability> days = new TreeMap<>();
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayAvailability cached = availabilityIndex.peek(workerId, date);
+            if (cached != null) {
+                days.put(date, cached);
+            } else {
+                missing.add(date);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            days.putAll(loadDayAvailabilities(workerId, missing));
+        }
+
+        List<AvailabilityRangeResponse.DaySlots> daySlots = days.values().stream()
+                .map(day -> AvailabilityRangeResponse.DaySlots.builder()
+                        .date(day.getDate())
+                        .availableSlots(buildTimeSlots(day, duration, holds))
+                        .build())
+                .collect(Collectors.toList());
+
+        return AvailabilityRangeResponse.builder()
+                .workerId(workerId)
+                .workerName(worker.getUser().getProfile() != null
+                        ? worker.getUser().getProfile().getFullName()
+                        : worker.getUser().getEmail())
+                .from(from)
+                .to(to)
+                .days(daySlots)
+                .build();
+    }
+
+    /**
+     * Get availability of every active worker of a business for a service on a date.
+     * Workers missing from the availability index are loaded with two set-based queries.
+     */
+    @Transactional(readOnly = true)
+    public BusinessAvailabilityResponse getBusinessAvailability(Long businessId, Long serviceId, LocalDate date) {
+        com.hairhub.backend.domain.business.Service service = getBookableService(businessId, serviceId);
+
+        int duration = service.getDurationMinutes();
+
+        List<BusinessAvailabilityResponse.WorkerOption> workers = toWorkerOptions(
+                workerRepository.findByBusinessIdWithProfile(businessId));
+        Map<Long, Map<LocalDate, DayAvailability>> days = getDayAvailabilities(workerIds(workers), List.of(date));
+
+        return BusinessAvailabilityResponse.builder()
+                .businessId(businessId)
+                .serviceId(serviceId)
+                .serviceName(service.getName())
+                .durationMinutes(duration)
+                .date(date)
+                .slots(mergeWorkerSlots(workers, days, date, duration))
+                .build();
+    }
+
+    /**
+     * Find the earliest bookable start times of a worker
+     */
+    @Transactional(readOnly = true)
+    public NextAvailableSlotsResponse getNextAvailableSlots(Long workerId, Integer durationMinutes, Integer count) {
+        Worker worker = workerRepository.findById(workerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Trabajador", workerId));
+
+        if (!worker.isActive()) {
+            throw new BadRequestException("El trabajador no está disponible");
+        }
+
+        int duration = durationMinutes != null ? durationMinutes : 30;
+
+        return findNextAvailableSlots(toWorkerOptions(List.of(worker)), duration, count);
+    }
+
+    /**
+     * Find the earliest start times at which any worker of a business can do a service
+     */
+    @Transactional(readOnly = true)
+    public NextAvailableSlotsResponse getNextBusinessAvailableSlots(Long businessId, Long serviceId, Integer count) {
+        com.hairhub.backend.domain.business.Service service = getBookableService(businessId, serviceId);
+
+        List<BusinessAvailabilityResponse.WorkerOption> workers = toWorkerOptions(
+                workerRepository.findByBusinessIdWithProfile(businessId));
+
+        return findNextAvailableSlots(workers, service.getDurationMinutes(), count);
+    }
+
+    /**
+     * Walk forward day by day from today and stop as soon as enough free slots are found.
+     * Days are loaded in windows that double in size, so sparse calendars need few queries.
+     */
+    private NextAvailableSlotsResponse findNextAvailableSlots(List<BusinessAvailabilityResponse.WorkerOption> workers,
+            int duration, Integer count) {
+        int wanted = count != null ? count : DEFAULT_NEXT_SLOTS;
+        if (wanted < 1 || wanted > MAX_NEXT_SLOTS) {
+            throw new BadRequestException("La cantidad de horarios debe estar entre 1 y " + MAX_NEXT_SLOTS);
+        }
+
+        List<NextAvailableSlotsResponse.Slot> found = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(NEXT_SLOTS_HORIZON_DAYS - 1);
+        LocalDate windowStart = today;
+        int windowDays = 1;
+
+        while (!workers.isEmpty() && found.size() < wanted && !windowStart.isAfter(horizon)) {
+            LocalDate windowEnd = windowStart.plusDays(windowDays - 1);
+            if (windowEnd.isAfter(horizon)) {
+                windowEnd = horizon;
+            }
+
+            List<LocalDate> dates = windowStart.datesUntil(windowEnd.plusDays(1)).collect(Collectors.toList());
+            Map<Long, Map<LocalDate, DayAvailability>> days = getDayAvailabilities(workerIds(workers), dates);
+
+            for (LocalDate date : dates) {
+                for (BusinessAvailabilityResponse.Slot slot : mergeWorkerSlots(workers, days, date, duration)) {
+                    if (!slot.isAvailable()) {
+                        continue;
+                    }
+                    found.add(NextAvailableSlotsResponse.Slot.builder()
+                            .startTime(date.atTime(slot.getStartTime()))
+                            .endTime(date.atTime(slot.getStartTime()).plusMinutes(duration))
+                            .availableWorkers(slot.getAvailableWorkers())
+                            .build());
+                    if (found.size() == wanted) {
+                        break;
+                    }
+                }
+                if (found.size() == wanted) {
+                    break;
+                }
+            }
+
+            windowStart = windowEnd.plusDays(1);
+            windowDays = Math.min(windowDays * 2, MAX_NEXT_SLOTS_WINDOW_DAYS);
+        }
+
+        return NextAvailableSlotsResponse.builder()
+                .durationMinutes(duration)
+                .slots(found)
+                .build();
+    }
+
+    private com.hairhub.backend.domain.business.Service getBookableService(Long businessId, Long serviceId) {
+        Business business = businessRepository.findById(businessId)
+                .orElseThrow(() -> new ResourceNotFoundException("Negocio", businessId));
+
+        com.hairhub.backend.domain.business.Service service = serviceRepository.findById(serviceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Servicio", serviceId));
+
+        if (!service.getBusiness().getId().equals(business.getId())) {
+            throw new BadRequestException("El servicio no pertenece a este negocio");
+        }
+        if (!business.isActive() || !service.isActive()) {
+            throw new BadRequestException("El servicio no está disponible");
+        }
+
+        return service;
+    }
+
+    private List<BusinessAvailabilityResponse.WorkerOption> toWorkerOptions(List<Worker> workers) {
+        return workers.stream()
+                .map(w -> BusinessAvailabilityResponse.WorkerOption.builder()
+                        .workerId(w.getId())
+                        .workerName(w.getUser().getProfile() != null
+                                ? w.getUser().getProfile().getFullName()
+                                : null)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> workerIds(List<BusinessAvailabilityResponse.WorkerOption> workers) {
+        return workers.stream()
+                .map(BusinessAvailabilityResponse.WorkerOption::getWorkerId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Merge the slots of several workers on one date by start time, listing the free workers of each
+     */
+    private List<BusinessAvailabilityResponse.Slot> mergeWorkerSlots(
+            List<BusinessAvailabilityResponse.WorkerOption> workers,
+            Map<Long, Map<LocalDate, DayAvailability>> days, LocalDate date, int duration) {
+        // Slot computation only touches in-memory bitmaps, so workers are evaluated in parallel
+        List<List<AvailabilityResponse.TimeSlot>> slotsPerWorker = workers.parallelStream()
+                .map(worker -> buildTimeSlots(days.get(worker.getWorkerId()).get(date), duration,
+                        slotHolds.activeHolds(worker.getWorkerId())))
+                .collect(Collectors.toList());
+
+        Map<LocalTime, BusinessAvailabilityResponse.Slot> merged = new TreeMap<>();
+        for (int i = 0; i < workers.size(); i++) {
+            for (AvailabilityResponse.TimeSlot slot : slotsPerWorker.get(i)) {
+                BusinessAvailabilityResponse.Slot mergedSlot = merged.computeIfAbsent(slot.getStartTime(),
+                        start -> BusinessAvailabilityResponse.Slot.builder()
+                                .startTime(slot.getStartTime())
+                                .endTime(slot.getEndTime())
+                                .availableWorkers(new ArrayList<>())
+                                .build());
+                if (slot.isAvailable()) {
+                    mergedSlot.setAvailable(true);
+                    mergedSlot.getAvailableWorkers().add(workers.get(i));
+                }
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * Availability of several workers on the given dates (ascending), taking cached days
+     * from the index and loading the rest in bulk.
+     */
+    private Map<Long, Map<LocalDate, DayAvailability>> getDayAvailabilities(List<Long> workerIds,
+            List<LocalDate> dates) {
+        Map<Long, Map<LocalDate, DayAvailability>> days = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long workerId : workerIds) {
+            Map<LocalDate, DayAvailability> byDate = new TreeMap<>();
+            for (LocalDate date : dates) {
+                DayAvailability cached = availabilityIndex.peek(workerId, date);
+                if (cached == null) {
+                    break;
+                }
+                byDate.put(date, cached);
+            }
+            if (byDate.size() == dates.size()) {
+                days.put(workerId, byDate);
+            } else {
+                missing.add(workerId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            days.putAll(loadDayAvailabilities(missing, dates));
+        }
+        return days;
+    }
+
+    /**
+     * Build a worker's day from their schedule and the day's appointments (two queries)
+     */
+    private DayAvailability loadDayAvailability(Long workerId, LocalDate date) {
+        return loadDayAvailabilities(workerId, List.of(date)).get(date);
+    }
+
+    private Map<LocalDate, DayAvailability> loadDayAvailabilities(Long workerId, List<LocalDate> dates) {
+        return loadDayAvailabilities(List.of(workerId), dates).get(workerId);
+    }
+
+    /**
+     * Build the given days (ascending) of several workers from their cached schedules and one
+     * appointment query spanning the first to the last date, and store them in the index.
+     */
+    private Map<Long, Map<LocalDate, DayAvailability>> loadDayAvailabilities(Collection<Long> workerIds,
+            List<LocalDate> dates) {
+        // Read before the appointments: days built from data older than a later booking are not stored
+        long loadGeneration = availabilityIndex.generation();
+        Map<Long, WorkerScheduleSnapshot> schedulesByWorker = scheduleCache.getAll(workerIds);
+
+        LocalDate first = dates.get(0);
+        LocalDate last = dates.get(dates.size() - 1);
+
+        // Workers without hours on any requested date have nothing to book
+        List<Long> workingIds = workerIds.stream()
+                .filter(id -> dates.stream().anyMatch(schedulesByWorker.get(id)::isWorkingOn))
+                .collect(Collectors.toList());
+
+        Map<Long, Map<LocalDate, List<Appointment>>> appointmentsByWorker = workingIds.isEmpty()
+                ? Map.of()
+                : appointmentRepository.findByWorkerIdsAndDateRange(
+                                workingIds, first.atStartOfDay(), last.atTime(LocalTime.MAX))
+                        .stream()
+                        .collect(Collectors.groupingBy(a -> a.getWorker().getId(),
+                                Collectors.groupingBy(a -> a.getStartTime().toLocalDate())));
+
+        Map<Long, Map<LocalDate, DayAvailability>> result = new HashMap<>();
+        for (Long workerId : workerIds) {
+            WorkerScheduleSnapshot schedule = schedulesByWorker.get(workerId);
+            Map<LocalDate, List<Appointment>> appointmentsByDate =
+                    appointmentsByWorker.getOrDefault(workerId, Map.of());
+
+            Map<LocalDate, DayAvailability> days = new TreeMap<>();
+            for (LocalDate date : dates) {
+                DayAvailability day = buildDayAvailability(date, schedule.windowsOn(date),
+                        appointmentsByDate.getOrDefault(date, List.of()));
+                availabilityIndex.put(workerId, date, day, loadGeneration);
+                days.put(date, day);
+            }
+            result.put(workerId, days);
+        }
+        return result;
+    }
+
+    private DayAvailability buildDayAvailability(LocalDate date, List<TimeWindow> windows,
+            List<Appointment> appointments) {
+        DayAvailability day = new DayAvailability(date);
+        windows.forEach(day::open);
+        appointments.stream()
+                .filter(a -> a.getStatus().occupiesSlot())
+                .forEach(a -> day.occupy(a.getStartTime(), a.getEndTime()));
+        return day;
+    }
+
+    /**
+     * Generate the slots of a day every SLOT_STEP_MINUTES within each working window.
+     * Slots overlapping an active hold are reported as taken.
+     */
+    private List<AvailabilityResponse.TimeSlot> buildTimeSlots(DayAvailability day, int duration,
+            List<SlotHold> holds) {
+        List<AvailabilityResponse.TimeSlot> slots = new ArrayList<>();
+
+        // Don't allow bookings in the past
+        int firstBookableMinute = -1;
+        if (day.getDate().equals(LocalDate.now())) {
+            LocalTime now = LocalTime.now();
+            firstBookableMinute = now.getHour() * 60 + now.getMinute() + (now.getSecond() > 0 ? 1 : 0);
+        }
+
+        for (TimeWindow window : day.getOpenWindows()) {
+            for (int start = window.startMinute(); start + duration <= window.endMinute(); start += SLOT_STEP_MINUTES) {
+                int end = start + duration;
+                boolean isAvailable = start >= firstBookableMinute && day.isFree(start, end)
+                        && !isHeld(holds, day.getDate(), start, end);
+
+                slots.add(AvailabilityResponse.TimeSlot.builder()
+                        .startTime(TimeWindow.toLocalTime(start))
+                        .endTime(TimeWindow.toLocalTime(end))
+                        .available(isAvailable)
+                        .build());
+            }
+        }
+
+        return slots;
+    }
+
+    private boolean isHeld(List<SlotHold> holds, LocalDate date, int startMinute, int endMinute) {
+        if (holds.isEmpty()) {
+            return false;
+        }
+        LocalDateTime start = date.atStartOfDay().plusMinutes(startMinute);
+        LocalDateTime end = date.atStartOfDay().plusMinutes(endMinute);
+        return holds.stream().anyMatch(h -> h.overlaps(start, end));
+    }
+}
@@ -0,0 +1,54 @@
+package com.hairhub.backend.api.service;
+
+import com.hairhub.backend.domain.booking.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background job that finalizes appointments which ended without being marked
+ * COMPLETED or NO_SHOW, following each business' expired appointment policy.
+ * Works in short chunks, each in its own transaction, so no lock is held for long.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class AppointmentSweeper {
+
+    private final AppointmentRepository appointmentRepository;
+
+    @Value("${app.sweeper.grace-minutes:120}")
+    private long graceMinutes;
+
+    @Value("${app.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.sweeper.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(initialDelayString = "${app.sweeper.initial-delay-ms:60000}",
+            fixedDelayString = "${app.sweeper.interval-ms:300000}")
+    public void sweep() {
+        // Owners get a grace period to finalize appointments themselves
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(graceMinutes);
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int updated = appointmentRepository.finalizeExpiredBatch(cutoff, batchSize);
+            total += updated;
+            if (updated < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Finalized {} expired appointments ended before {}", total, cutoff);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.hairhub.backend.api.service;
 
 import com.hairhub.backend.api.dto.business.*;
+import com.hairhub.backend.api.dto.common.CursorResponse;
+import com.hairhub.backend.api.dto.common.PageCursor;
 import com.hairhub.backend.api.dto.common.PageResponse;
+import com.hairhub.backend.api.exception.BadRequestException;
 import com.hairhub.backend.api.exception.ForbiddenException;
 import com.hairhub.backend.api.exception.ResourceNotFoundException;
 import com.hairhub.backend.domain.business.*;
@@ -9,14 +12,19 @@ import com.hairhub.backend.domain.user.User;
 import com.hairhub.backend.domain.user.UserRepository;
 import com.hairhub.backend.domain.user.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +36,15 @@ public class BusinessService {
     private final ServiceRepository serviceRepository;
     private final WorkerRepository workerRepository;
 
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final BigDecimal MAX_RATING = BigDecimal.valueOf(5);
+
+    @Value("${app.search.fuzzy.threshold:0.4}")
+    private double fuzzyThreshold;
+
+    @Value("${app.search.nearby.max-radius-km:50}")
+    private double maxNearbyRadiusKm;
+
     /**
      * Search businesses with filters and pagination
      */
@@ -36,21 +53,16 @@ public class BusinessService {
             String query,
             BusinessCategory category,
             String city,
+            BigDecimal minRating,
+            boolean fuzzy,
             int page,
             int size) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("averageRating").descending());
-        Page<Business> businesses;
-
-        if (query != null && !query.isBlank() && category != null) {
-            businesses = businessRepository.searchByNameAndCategory(query, category, pageable);
-        } else if (query != null && !query.isBlank()) {
-            businesses = businessRepository.searchByName(query, pageable);
-        } else if (category != null) {
-            businesses = businessRepository.findByCategoryAndActiveTrue(category, pageable);
-        } else {
-            businesses = businessRepository.findByActiveTrue(pageable);
+        BusinessSearchCriteria criteria = toSearchCriteria(query, category, city, minRating, fuzzy);
+        if (criteria.fuzzyQuery() != null) {
+            businessRepository.setWordSimilarityThreshold(fuzzyThreshold);
         }
+        Page<Business> businesses = businessRepository.search(criteria, PageRequest.of(page, size));
 
         List<BusinessSummaryResponse> content = businesses.getContent().stream()
                 .map(this::toSummaryResponse)
@@ -68,6 +80,123 @@ public class BusinessService {
                 .build();
     }
 
+    /**
+     * Business names close to a possibly misspelled query ("did you mean")
+     */
+    @Transactional(readOnly = true)
+    public List<String> suggestBusinessNames(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new BadRequestException("El número de sugerencias debe estar entre 1 y " + MAX_SUGGESTIONS);
+        }
+        businessRepository.setWordSimilarityThreshold(fuzzyThreshold);
+        return businessRepository.suggestNames(query.trim(), limit);
+    }
+
+    /**
+     * Build the search filters from the request; blank values are not applied and
+     * only active businesses are ever listed publicly
+     */
+    private static BusinessSearchCriteria toSearchCriteria(
+            String query, BusinessCategory category, String city, BigDecimal minRating, boolean fuzzy) {
+
+        if (minRating != null && (minRating.signum() < 0 || minRating.compareTo(MAX_RATING) > 0)) {
+            throw new BadRequestException("La valoración mínima debe estar entre 0 y 5");
+        }
+        String textQuery = toPrefixQuery(query);
+        String cityName = city != null && !city.isBlank() ? city.trim() : null;
+
+        return fuzzy && textQuery != null
+                ? new BusinessSearchCriteria(null, query.trim(), category, cityName, minRating, true)
+                : new BusinessSearchCriteria(textQuery, null, category, cityName, minRating, true);
+    }
+
+    /**
+     * Turn free text into a prefix tsquery ("corte barb" -> "corte:* & barb:*") so partial
+     * words match while typing. Only letters and digits are kept, which also keeps the
+     * tsquery syntax safe. Returns null when nothing searchable is left.
+     */
+    static String toPrefixQuery(String query) {
+        if (query == null) {
+            return null;
+        }
+        String terms = Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return terms.isEmpty() ? null : terms;
+    }
+
+    /**
+     * Search businesses by keyset cursor, best rated first (no total count).
+     * Text queries are rejected: their relevance order has no stable keyset, so they are only
+     * served by the paged search.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BusinessSummaryResponse> searchBusinesses(
+            String query,
+            BusinessCategory category,
+            String city,
+            BigDecimal minRating,
+            String cursor,
+            int size) {
+
+        PageCursor.validateSize(size);
+        PageCursor after = PageCursor.decode(cursor);
+        BusinessSearchCriteria criteria = toSearchCriteria(query, category, city, minRating, false);
+        if (criteria.textQuery() != null) {
+            throw new BadRequestException("La búsqueda por texto no admite paginación por cursor, usa la búsqueda paginada");
+        }
+
+        List<Business> rows = after == null
+                ? businessRepository.searchSlice(criteria, null, null, size + 1)
+                : businessRepository.searchSlice(criteria, after.keyAsDecimal(), after.id(), size + 1);
+
+        return CursorResponse.of(rows, size, this::toSummaryResponse, b -> PageCursor.of(
+                b.getAverageRating() != null ? b.getAverageRating() : BigDecimal.ZERO, b.getId()));
+    }
+
+    /**
+     * Search businesses around a point, nearest first, paged by (distance, id) cursor.
+     * Without a radius the k = size nearest within the maximum radius are returned.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<BusinessSummaryResponse> searchNearbyBusinesses(
+            double latitude,
+            double longitude,
+            Double radiusKm,
+            String query,
+            BusinessCategory category,
+            BigDecimal minRating,
+            String cursor,
+            int size) {
+
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Coordenadas inválidas");
+        }
+        double radius = radiusKm != null ? radiusKm : maxNearbyRadiusKm;
+        if (radius <= 0 || radius > maxNearbyRadiusKm) {
+            throw new BadRequestException("El radio debe ser mayor que 0 y como máximo " + maxNearbyRadiusKm + " km");
+        }
+        PageCursor.validateSize(size);
+        PageCursor after = PageCursor.decode(cursor);
+        BusinessSearchCriteria criteria = toSearchCriteria(query, category, null, minRating, false);
+
+        NearbySearch nearby = new NearbySearch(latitude, longitude, radius,
+                after != null ? after.keyAsDecimal() : null,
+                after != null ? after.id() : null);
+
+        List<BusinessDistance> rows = businessRepository.searchNearby(criteria, nearby, size + 1);
+
+        return CursorResponse.of(rows, size, row -> {
+            BusinessSummaryResponse response = toSummaryResponse(row.business());
+            response.setDistanceKm(row.distanceKm().setScale(2, RoundingMode.HALF_UP).doubleValue());
+            return response;
+        }, row -> PageCursor.of(row.distanceKm().toPlainString(), row.business().getId()));
+    }
+
     /**
      * Get business by ID with full details
      */
@@ -102,6 +231,8 @@ public class BusinessService {
             throw new ForbiddenException("Solo los usuarios con rol OWNER pueden crear negocios");
         }
 
+        validateLocation(request.getLatitude(), request.getLongitude());
+
         Business business = Business.builder()
                 .owner(owner)
                 .name(request.getName())
@@ -111,6 +242,8 @@ public class BusinessService {
                 .city(request.getCity())
                 .phone(request.getPhone())
                 .coverImageUrl(request.getCoverImageUrl())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .active(true)
                 .build();
 
@@ -153,9 +286,17 @@ public class BusinessService {
         if (request.getCoverImageUrl() != null) {
             business.setCoverImageUrl(request.getCoverImageUrl());
         }
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            validateLocation(request.getLatitude(), request.getLongitude());
+            business.setLatitude(request.getLatitude());
+            business.setLongitude(request.getLongitude());
+        }
         if (request.getActive() != null) {
             business.setActive(request.getActive());
         }
+        if (request.getExpiredAppointmentPolicy() != null) {
+            business.setExpiredAppointmentPolicy(request.getExpiredAppointmentPolicy());
+        }
 
         business = businessRepository.save(business);
 
@@ -178,8 +319,24 @@ public class BusinessService {
         businessRepository.save(business);
     }
 
+    private static void validateLocation(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new BadRequestException("La latitud y la longitud deben indicarse juntas");
+        }
+    }
+
     // ========== MAPPER METHODS ==========
 
+    private Map<Integer, Integer> toRatingDistribution(Business business) {
+        Map<Integer, Integer> distribution = new LinkedHashMap<>();
+        distribution.put(1, business.getRating1Count());
+        distribution.put(2, business.getRating2Count());
+        distribution.put(3, business.getRating3Count());
+        distribution.put(4, business.getRating4Count());
+        distribution.put(5, business.getRating5Count());
+        return distribution;
+    }
+
     public BusinessSummaryResponse toSummaryResponse(Business business) {
         return BusinessSummaryResponse.builder()
                 .id(business.getId())
@@ -189,6 +346,8 @@ public class BusinessService {
                 .address(business.getAddress())
                 .city(business.getCity())
                 .coverImageUrl(business.getCoverImageUrl())
+                .latitude(business.getLatitude())
+                .longitude(business.getLongitude())
                 .averageRating(business.getAverageRating())
                 .totalReviews(business.getTotalReviews())
                 .servicesCount(business.getServices() != null ? business.getServices().size() : 0)
@@ -222,9 +381,13 @@ public class BusinessService {
                 .city(business.getCity())
                 .phone(business.getPhone())
                 .coverImageUrl(business.getCoverImageUrl())
+                .latitude(business.getLatitude())
+                .longitude(business.getLongitude())
                 .active(business.isActive())
                 .averageRating(business.getAverageRating())
                 .totalReviews(business.getTotalReviews())
+                .ratingDistribution(toRatingDistribution(business))
+                .expiredAppointmentPolicy(business.getExpiredAppointmentPolicy())
                 .ownerId(business.getOwner().getId())
                 .ownerName(business.getOwner().getProfile() != null
                         ? business.getOwner().getProfile().getFullName()
@@ -266,6 +429,8 @@ public class BusinessService {
                 .active(worker.isActive())
                 .businessId(worker.getBusiness().getId())
                 .businessName(worker.getBusiness().getName())
+                .averageRating(worker.getAverageRating())
+                .totalReviews(worker.getRatingCount())
                 .createdAt(worker.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,219 @@
+package com.hairhub.backend.api.service;
+
+import com.hairhub.backend.api.dto.business.BusinessStatsResponse;
+import com.hairhub.backend.api.dto.business.OccupancyHeatmapResponse;
+import com.hairhub.backend.api.exception.BadRequestException;
+import com.hairhub.backend.api.exception.ForbiddenException;
+import com.hairhub.backend.api.exception.ResourceNotFoundException;
+import com.hairhub.backend.api.service.availability.TimeWindow;
+import com.hairhub.backend.api.service.availability.WorkerScheduleSnapshot;
+import com.hairhub.backend.domain.booking.AppointmentRepository;
+import com.hairhub.backend.domain.business.Business;
+import com.hairhub.backend.domain.business.BusinessDailyStats;
+import com.hairhub.backend.domain.business.BusinessDailyStatsRepository;
+import com.hairhub.backend.domain.business.BusinessRepository;
+import com.hairhub.backend.domain.business.Worker;
+import com.hairhub.backend.domain.business.WorkerRepository;
+import com.hairhub.backend.domain.business.WorkerSchedule;
+import com.hairhub.backend.domain.business.WorkerScheduleException;
+import com.hairhub.backend.domain.business.WorkerScheduleExceptionRepository;
+import com.hairhub.backend.domain.business.WorkerScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class BusinessStatsService {
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final BusinessRepository businessRepository;
+    private final WorkerRepository workerRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final BusinessDailyStatsRepository dailyStatsRepository;
+    private final WorkerScheduleRepository workerScheduleRepository;
+    private final WorkerScheduleExceptionRepository exceptionRepository;
+
+    /**
+     * Get appointment counts, booked minutes and revenue of a business for a date range (owner only).
+     * Reads only the daily rollup, so the cost depends on the range and not on the history size.
+     */
+    @Transactional(readOnly = true)
+    public BusinessStatsResponse getBusinessStats(Long businessId, Long userId, LocalDate from, LocalDate to) {
+        Business business = getOwnedBusiness(businessId, userId);
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("La fecha inicial debe ser anterior a la fecha final");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("El rango no puede superar " + MAX_RANGE_DAYS + " días");
+        }
+
+        BusinessStatsResponse.Counters totals = emptyCounters();
+        Map<LocalDate, BusinessStatsResponse.Counters> byDay = new TreeMap<>();
+        Map<Long, BusinessStatsResponse.Counters> byWorker = new LinkedHashMap<>();
+
+        for (BusinessDailyStats row : dailyStatsRepository.findByBusinessIdAndDayRange(businessId, start, end)) {
+            accumulate(totals, row);
+            accumulate(byDay.computeIfAbsent(row.getId().getDate(), d -> emptyCounters()), row);
+            accumulate(byWorker.computeIfAbsent(row.getId().getWorkerId(), id -> emptyCounters()), row);
+        }
+
+        // The rollup keeps the rows of workers deactivated since, so names are looked up by id
+        Map<Long, String> workerNames = byWorker.isEmpty() ? Map.of()
+                : workerRepository.findByIdInWithProfile(byWorker.keySet())
+                        .stream()
+                        .collect(Collectors.toMap(Worker::getId, BusinessStatsService::displayName));
+
+        return BusinessStatsResponse.builder()
+                .businessId(business.getId())
+                .from(start)
+                .to(end)
+                .totals(totals)
+                .daily(byDay.entrySet().stream()
+                        .map(e -> new BusinessStatsResponse.DailyStats(e.getKey(), e.getValue()))
+                        .collect(Collectors.toList()))
+                .workers(byWorker.entrySet().stream()
+                        .map(e -> new BusinessStatsResponse.WorkerStats(e.getKey(), workerNames.get(e.getKey()), e.getValue()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Get the month occupancy heatmap of a business (owner only).
+     * Booked minutes are aggregated in the database; scheduled minutes come from the same
+     * WorkerScheduleSnapshot used for booking, so exceptions count exactly as they do there.
+     */
+    @Transactional(readOnly = true)
+    public OccupancyHeatmapResponse getOccupancyHeatmap(Long businessId, Long userId, YearMonth month) {
+        Business business = getOwnedBusiness(businessId, userId);
+
+        YearMonth target = month != null ? month : YearMonth.now();
+        int daysInMonth = target.lengthOfMonth();
+        LocalDate firstDay = target.atDay(1);
+        LocalDate lastDay = target.atEndOfMonth();
+
+        List<Worker> workers = workerRepository.findByBusinessIdWithProfile(businessId)
+                .stream()
+                .sorted(Comparator.comparing(Worker::getId))
+                .collect(Collectors.toList());
+
+        Map<Long, OccupancyHeatmapResponse.WorkerOccupancy> byWorker = new LinkedHashMap<>();
+        if (!workers.isEmpty()) {
+            List<Long> workerIds = workers.stream().map(Worker::getId).collect(Collectors.toList());
+            Map<Long, List<WorkerSchedule>> schedulesByWorker = workerScheduleRepository
+                    .findByWorkerIdInAndAvailableTrue(workerIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(s -> s.getWorker().getId()));
+            Map<Long, List<WorkerScheduleException>> exceptionsByWorker = exceptionRepository
+                    .findByWorkerIdInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(workerIds, lastDay, firstDay)
+                    .stream()
+                    .collect(Collectors.groupingBy(e -> e.getWorker().getId()));
+
+            for (Worker worker : workers) {
+                WorkerScheduleSnapshot schedule = WorkerScheduleSnapshot.of(
+                        schedulesByWorker.getOrDefault(worker.getId(), List.of()),
+                        exceptionsByWorker.getOrDefault(worker.getId(), List.of()));
+
+                int[][] scheduled = new int[daysInMonth][HOURS_PER_DAY];
+                int totalScheduled = 0;
+                for (int day = 0; day < daysInMonth; day++) {
+                    for (TimeWindow window : schedule.windowsOn(firstDay.plusDays(day))) {
+                        addMinutesByHour(scheduled[day], window);
+                        totalScheduled += window.lengthMinutes();
+                    }
+                }
+
+                byWorker.put(worker.getId(), OccupancyHeatmapResponse.WorkerOccupancy.builder()
+                        .workerId(worker.getId())
+                        .workerName(worker.getUser().getProfile().getFullName())
+                        .bookedMinutes(new int[daysInMonth][HOURS_PER_DAY])
+                        .scheduledMinutes(scheduled)
+                        .totalBookedMinutes(0)
+                        .totalScheduledMinutes(totalScheduled)
+                        .build());
+            }
+
+            for (Object[] row : appointmentRepository.findBookedMinutesByHour(businessId,
+                    firstDay.atStartOfDay(), target.plusMonths(1).atDay(1).atStartOfDay())) {
+                OccupancyHeatmapResponse.WorkerOccupancy occupancy = byWorker.get(((Number) row[0]).longValue());
+                if (occupancy == null) {
+                    // Bookings of a worker that is no longer active
+                    continue;
+                }
+                int day = ((Number) row[1]).intValue() - 1;
+                int hour = ((Number) row[2]).intValue();
+                int booked = ((Number) row[3]).intValue();
+
+                occupancy.getBookedMinutes()[day][hour] = booked;
+                occupancy.setTotalBookedMinutes(occupancy.getTotalBookedMinutes() + booked);
+            }
+        }
+
+        return OccupancyHeatmapResponse.builder()
+                .businessId(business.getId())
+                .month(target)
+                .daysInMonth(daysInMonth)
+                .workers(new ArrayList<>(byWorker.values()))
+                .build();
+    }
+
+    /**
+     * Spread a working window over the hours of a day
+     */
+    private static void addMinutesByHour(int[] minutesByHour, TimeWindow window) {
+        for (int hour = window.startMinute() / 60; hour * 60 < window.endMinute(); hour++) {
+            minutesByHour[hour] += Math.min(window.endMinute(), hour * 60 + 60)
+                    - Math.max(window.startMinute(), hour * 60);
+        }
+    }
+
+    private static String displayName(Worker worker) {
+        return worker.getUser().getProfile() != null
+                ? worker.getUser().getProfile().getFullName()
+                : worker.getUser().getEmail();
+    }
+
+    private static BusinessStatsResponse.Counters emptyCounters() {
+        return BusinessStatsResponse.Counters.builder().revenue(BigDecimal.ZERO).build();
+    }
+
+    private static void accumulate(BusinessStatsResponse.Counters counters, BusinessDailyStats row) {
+        counters.setPending(counters.getPending() + row.getPendingCount());
+        counters.setConfirmed(counters.getConfirmed() + row.getConfirmedCount());
+        counters.setCompleted(counters.getCompleted() + row.getCompletedCount());
+        counters.setCancelled(counters.getCancelled() + row.getCancelledCount());
+        counters.setNoShow(counters.getNoShow() + row.getNoShowCount());
+        counters.setTotal(counters.getTotal() + row.getPendingCount() + row.getConfirmedCount()
+                + row.getCompletedCount() + row.getCancelledCount() + row.getNoShowCount());
+        counters.setBookedMinutes(counters.getBookedMinutes() + row.getBookedMinutes());
+        counters.setRevenue(counters.getRevenue().add(row.getRevenue()));
+    }
+
+    private Business getOwnedBusiness(Long businessId, Long userId) {
+        Business business = businessRepository.findById(businessId)
+                .orElseThrow(() -> new ResourceNotFoundException("Negocio", businessId));
+
+        if (!business.getOwner().getId().equals(userId)) {
+            throw new ForbiddenException("No tienes permiso para ver las estadísticas de este negocio");
+        }
+        return business;
+    }
+}
@@ -0,0 +1,227 @@
+package com.hairhub.backend.api.service;
+
+import com.hairhub.backend.api.dto.appointment.CalendarFeedResponse;
+import com.hairhub.backend.api.exception.ForbiddenException;
+import com.hairhub.backend.api.exception.ResourceNotFoundException;
+import com.hairhub.backend.api.service.calendar.IcsWriter;
+import com.hairhub.backend.domain.booking.CalendarFeed;
+import com.hairhub.backend.domain.booking.CalendarFeedRepository;
+import com.hairhub.backend.domain.business.Worker;
+import com.hairhub.backend.domain.business.WorkerRepository;
+import com.hairhub.backend.domain.user.User;
+import com.hairhub.backend.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.security.SecureRandom;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    public static final String FEED_PATH = "/api/calendar/feeds/";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final String FEED_COLUMNS = "SELECT a.id, a.start_time, a.end_time, a.status, a.client_notes, "
+            + "a.updated_at, s.name AS service_name, cp.full_name AS client_name, wp.full_name AS worker_name, "
+            + "b.name AS business_name, b.address AS business_address "
+            + "FROM appointments a "
+            + "JOIN services s ON s.id = a.service_id "
+            + "JOIN workers w ON w.id = a.worker_id "
+            + "JOIN businesses b ON b.id = w.business_id "
+            + "LEFT JOIN profiles cp ON cp.id = a.client_id "
+            + "LEFT JOIN profiles wp ON wp.id = w.user_id ";
+
+    private static final String WINDOW = "AND a.start_time >= ? AND a.start_time < ?";
+
+    private final CalendarFeedRepository calendarFeedRepository;
+    private final WorkerRepository workerRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.calendar.feed.past-days:30}")
+    private int pastDays;
+
+    @Value("${app.calendar.feed.future-days:180}")
+    private int futureDays;
+
+    @Value("${app.calendar.feed.fetch-size:200}")
+    private int fetchSize;
+
+    /**
+     * Create (or rotate) the feed of the appointments booked by a client
+     */
+    @Transactional
+    public CalendarFeedResponse createClientFeed(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", userId));
+
+        calendarFeedRepository.deleteClientFeed(userId);
+        return toResponse(calendarFeedRepository.save(CalendarFeed.builder()
+                .token(newToken())
+                .user(user)
+                .build()));
+    }
+
+    /**
+     * Create (or rotate) the agenda feed of a worker (the worker or the business owner)
+     */
+    @Transactional
+    public CalendarFeedResponse createWorkerFeed(Long workerId, Long userId) {
+        Worker worker = workerRepository.findById(workerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Trabajador", workerId));
+
+        boolean isWorker = worker.getUser().getId().equals(userId);
+        boolean isOwner = worker.getBusiness().getOwner().getId().equals(userId);
+
+        if (!isWorker && !isOwner) {
+            throw new ForbiddenException("No tienes permiso para ver estas citas");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", userId));
+
+        calendarFeedRepository.deleteWorkerFeed(workerId);
+        return toResponse(calendarFeedRepository.save(CalendarFeed.builder()
+                .token(newToken())
+                .user(user)
+                .worker(worker)
+                .build()));
+    }
+
+    /**
+     * Resolve a feed token and compute its validators.
+     * Only max(updated_at) and a count are read, so unchanged feeds can be answered with 304.
+     */
+    @Transactional(readOnly = true)
+    public FeedSnapshot getFeed(String token) {
+        CalendarFeed feed = calendarFeedRepository.findByToken(token)
+                .orElseThrow(() -> new ResourceNotFoundException("Calendario no encontrado"));
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime from = today.minusDays(pastDays).atStartOfDay();
+        LocalDateTime to = today.plusDays(futureDays + 1L).atStartOfDay();
+
+        boolean workerFeed = feed.isWorkerFeed();
+        Long ownerId = workerFeed ? feed.getWorker().getId() : feed.getUser().getId();
+        String name = workerFeed
+                ? "HairHub - " + feed.getWorker().getBusiness().getName()
+                : "HairHub - Mis citas";
+
+        String sql = "SELECT MAX(a.updated_at), COUNT(*) FROM appointments a WHERE "
+                + ownerColumn(workerFeed) + " = ? " + WINDOW;
+        Version version = jdbcTemplate.queryForObject(sql,
+                (rs, i) -> new Version(rs.getTimestamp(1), rs.getLong(2)),
+                ownerId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        LocalDateTime modified = version.maxUpdatedAt() != null
+                ? version.maxUpdatedAt().toLocalDateTime()
+                : feed.getCreatedAt();
+        long lastModified = modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // The window start is part of the tag: appointments leave the feed as days pass
+        String etag = "\"" + Long.toHexString(lastModified) + "-" + version.count() + "-" + from.toLocalDate() + "\"";
+
+        return new FeedSnapshot(workerFeed, ownerId, name, from, to, etag, lastModified);
+    }
+
+    /**
+     * Stream the feed as iCalendar, one VEVENT per row of a forward-only cursor
+     */
+    @Transactional(readOnly = true)
+    public void writeFeed(FeedSnapshot feed, OutputStream out) {
+        IcsWriter ics = new IcsWriter(out);
+        ics.begin(feed.name());
+
+        String sql = FEED_COLUMNS + "WHERE " + ownerColumn(feed.workerFeed()) + " = ? " + WINDOW
+                + " ORDER BY a.start_time";
+        jdbcTemplate.query(con -> {
+            // Streams only inside a transaction (auto-commit off) on PostgreSQL
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, feed.ownerId());
+            ps.setTimestamp(2, Timestamp.valueOf(feed.from()));
+            ps.setTimestamp(3, Timestamp.valueOf(feed.to()));
+            return ps;
+        }, (RowCallbackHandler) rs -> ics.event(toEvent(rs, feed.workerFeed())));
+
+        ics.end();
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private static String ownerColumn(boolean workerFeed) {
+        return workerFeed ? "a.worker_id" : "a.client_id";
+    }
+
+    private static IcsWriter.Event toEvent(ResultSet rs, boolean workerFeed) throws SQLException {
+        String serviceName = rs.getString("service_name");
+        String summary = workerFeed
+                ? serviceName + " - " + nameOrDefault(rs.getString("client_name"), "Cliente")
+                : serviceName + " - " + rs.getString("business_name");
+        String description = workerFeed
+                ? rs.getString("client_notes")
+                : "Con " + nameOrDefault(rs.getString("worker_name"), "tu profesional");
+
+        return new IcsWriter.Event(
+                "appointment-" + rs.getLong("id") + "@hairhub",
+                rs.getTimestamp("updated_at").toInstant(),
+                rs.getTimestamp("start_time").toLocalDateTime(),
+                rs.getTimestamp("end_time").toLocalDateTime(),
+                summary,
+                rs.getString("business_address"),
+                description,
+                toIcsStatus(rs.getString("status")));
+    }
+
+    private static String toIcsStatus(String status) {
+        return switch (status) {
+            case "PENDING" -> "TENTATIVE";
+            case "CANCELLED", "NO_SHOW" -> "CANCELLED";
+            default -> "CONFIRMED";
+        };
+    }
+
+    private static String nameOrDefault(String name, String fallback) {
+        return name != null ? name : fallback;
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private CalendarFeedResponse toResponse(CalendarFeed feed) {
+        return CalendarFeedResponse.builder()
+                .token(feed.getToken())
+                .feedPath(FEED_PATH + feed.getToken() + ".ics")
+                .workerId(feed.isWorkerFeed() ? feed.getWorker().getId() : null)
+                .createdAt(feed.getCreatedAt())
+                .build();
+    }
+
+    private record Version(Timestamp maxUpdatedAt, long count) {
+    }
+
+    /**
+     * Resolved feed with the window and validators used for one request
+     */
+    public record FeedSnapshot(boolean workerFeed, Long ownerId, String name,
+                               LocalDateTime from, LocalDateTime to,
+                               String etag, long lastModified) {
+    }
+}
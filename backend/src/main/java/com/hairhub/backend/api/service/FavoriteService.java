@@ -1,6 +1,8 @@
 package com.hairhub.backend.api.service;
 
 import com.hairhub.backend.api.dto.business.BusinessSummaryResponse;
+import com.hairhub.backend.api.dto.common.CursorResponse;
+import com.hairhub.backend.api.dto.common.PageCursor;
 import com.hairhub.backend.api.dto.common.PageResponse;
 import com.hairhub.backend.domain.business.Business;
 import com.hairhub.backend.domain.business.BusinessRepository;
@@ -10,6 +12,7 @@ import com.hairhub.backend.domain.user.User;
 import com.hairhub.backend.domain.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -50,6 +53,19 @@ public class FavoriteService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public CursorResponse<BusinessSummaryResponse> getUserFavorites(Long userId, String cursor, int size) {
+        PageCursor.validateSize(size);
+        PageCursor after = PageCursor.decode(cursor);
+
+        List<Favorite> rows = after == null
+                ? favoriteRepository.findSliceByUserId(userId, Limit.of(size + 1))
+                : favoriteRepository.findSliceByUserIdAfter(userId, after.keyAsDateTime(), after.id(), Limit.of(size + 1));
+
+        return CursorResponse.of(rows, size, f -> businessService.toSummaryResponse(f.getBusiness()),
+                f -> PageCursor.of(f.getCreatedAt(), f.getId()));
+    }
+
     @Transactional(readOnly = true)
     public List<BusinessSummaryResponse> getAllUserFavorites(Long userId) {
         List<Favorite> favorites = favoriteRepository.findByUserIdWithBusiness(userId);
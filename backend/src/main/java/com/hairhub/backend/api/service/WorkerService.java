@@ -1,18 +1,29 @@
 package com.hairhub.backend.api.service;
 
 import com.hairhub.backend.api.dto.business.*;
+import com.hairhub.backend.api.dto.common.PageCursor;
 import com.hairhub.backend.api.exception.BadRequestException;
 import com.hairhub.backend.api.exception.ConflictException;
 import com.hairhub.backend.api.exception.ForbiddenException;
 import com.hairhub.backend.api.exception.ResourceNotFoundException;
+import com.hairhub.backend.api.service.availability.WorkerAvailabilityIndex;
+import com.hairhub.backend.api.service.availability.WorkerScheduleCache;
 import com.hairhub.backend.domain.business.*;
 import com.hairhub.backend.domain.user.User;
 import com.hairhub.backend.domain.user.UserRepository;
 import com.hairhub.backend.domain.user.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,8 +33,17 @@ public class WorkerService {
 
     private final WorkerRepository workerRepository;
     private final WorkerScheduleRepository workerScheduleRepository;
+    private final WorkerScheduleExceptionRepository scheduleExceptionRepository;
     private final BusinessRepository businessRepository;
     private final UserRepository userRepository;
+    private final WorkerAvailabilityIndex availabilityIndex;
+    private final WorkerScheduleCache scheduleCache;
+
+    @Value("${app.ratings.prior-weight:5}")
+    private double priorWeight;
+
+    @Value("${app.ratings.prior-mean:4.0}")
+    private double defaultPriorMean;
 
     private static final String[] DAY_NAMES = {
             "Domingo", "Lunes", "Martes", "Miércoles", "Jueves", "Viernes", "Sábado"
@@ -40,6 +60,45 @@ public class WorkerService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the active workers of a business ranked by confidence-adjusted rating.
+     * Each worker's mean is shrunk towards the business mean by priorWeight virtual reviews,
+     * so one 5-star review does not outrank fifty 4.8 ones.
+     */
+    @Transactional(readOnly = true)
+    public List<WorkerRankingResponse> getLeaderboard(Long businessId, int limit) {
+        PageCursor.validateSize(limit);
+        Business business = businessRepository.findById(businessId)
+                .orElseThrow(() -> new ResourceNotFoundException("Negocio", businessId));
+
+        double priorMean = business.getTotalReviews() > 0
+                ? (double) business.getRatingSum() / business.getTotalReviews()
+                : defaultPriorMean;
+        double priorSum = priorWeight * priorMean;
+
+        List<Worker> workers = workerRepository.findLeaderboard(businessId, priorSum, priorWeight, Limit.of(limit));
+
+        List<WorkerRankingResponse> ranking = new ArrayList<>(workers.size());
+        for (Worker worker : workers) {
+            double score = (worker.getRatingSum() + priorSum) / (worker.getRatingCount() + priorWeight);
+            ranking.add(WorkerRankingResponse.builder()
+                    .rank(ranking.size() + 1)
+                    .workerId(worker.getId())
+                    .fullName(worker.getUser().getProfile() != null
+                            ? worker.getUser().getProfile().getFullName()
+                            : null)
+                    .avatarUrl(worker.getUser().getProfile() != null
+                            ? worker.getUser().getProfile().getAvatarUrl()
+                            : null)
+                    .position(worker.getPosition())
+                    .averageRating(worker.getAverageRating())
+                    .totalReviews(worker.getRatingCount())
+                    .score(BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP))
+                    .build());
+        }
+        return ranking;
+    }
+
     /**
      * Get worker by ID
      */
@@ -129,6 +188,11 @@ public class WorkerService {
 
         worker = workerRepository.save(worker);
 
+        if (request.getActive() != null) {
+            scheduleCache.invalidate(workerId);
+            availabilityIndex.evictWorker(workerId);
+        }
+
         return toResponse(worker);
     }
 
@@ -146,6 +210,9 @@ public class WorkerService {
 
         worker.setActive(false);
         workerRepository.save(worker);
+
+        scheduleCache.invalidate(workerId);
+        availabilityIndex.evictWorker(workerId);
     }
 
     /**
@@ -164,16 +231,13 @@ public class WorkerService {
             throw new ForbiddenException("No tienes permiso para modificar este horario");
         }
 
+        validateShifts(schedules);
+
         // Delete existing schedules
         workerScheduleRepository.deleteByWorkerId(workerId);
 
         // Create new schedules
         for (WorkerScheduleRequest scheduleReq : schedules) {
-            if (scheduleReq.getEndTime().isBefore(scheduleReq.getStartTime()) ||
-                    scheduleReq.getEndTime().equals(scheduleReq.getStartTime())) {
-                throw new BadRequestException("La hora de fin debe ser posterior a la hora de inicio");
-            }
-
             WorkerSchedule schedule = WorkerSchedule.builder()
                     .worker(worker)
                     .dayOfWeek(scheduleReq.getDayOfWeek())
@@ -185,12 +249,141 @@ public class WorkerService {
             workerScheduleRepository.save(schedule);
         }
 
+        scheduleCache.invalidate(workerId);
+        availabilityIndex.evictWorker(workerId);
+
         // Reload worker with schedules
         worker = workerRepository.findById(workerId).get();
 
         return toResponseWithSchedule(worker);
     }
 
+    /**
+     * Get upcoming schedule exceptions of a worker
+     */
+    @Transactional(readOnly = true)
+    public List<WorkerScheduleExceptionResponse> getScheduleExceptions(Long workerId, Long userId) {
+        getManageableWorker(workerId, userId);
+
+        return scheduleExceptionRepository
+                .findByWorkerIdAndEndDateGreaterThanEqualOrderByStartDateAsc(workerId, LocalDate.now())
+                .stream()
+                .map(this::toExceptionResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Add a dated exception (day off, vacation, changed hours) to a worker's schedule
+     */
+    @Transactional
+    public WorkerScheduleExceptionResponse addScheduleException(Long workerId, Long userId,
+            WorkerScheduleExceptionRequest request) {
+        Worker worker = getManageableWorker(workerId, userId);
+
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BadRequestException("La fecha de fin debe ser igual o posterior a la fecha de inicio");
+        }
+        if ((request.getStartTime() == null) != (request.getEndTime() == null)) {
+            throw new BadRequestException("Debes indicar la hora de inicio y la de fin, o ninguna");
+        }
+        if (request.getStartTime() != null) {
+            requireWholeMinutes(request.getStartTime(), request.getEndTime());
+        }
+        if (request.getStartTime() != null && !request.getEndTime().isAfter(request.getStartTime())) {
+            throw new BadRequestException("La hora de fin debe ser posterior a la hora de inicio");
+        }
+
+        boolean available = request.getAvailable() != null && request.getAvailable();
+        if (available && request.getStartTime() == null) {
+            throw new BadRequestException("Un horario especial debe indicar la hora de inicio y la de fin");
+        }
+
+        WorkerScheduleException exception = WorkerScheduleException.builder()
+                .worker(worker)
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .available(available)
+                .reason(request.getReason())
+                .build();
+
+        exception = scheduleExceptionRepository.save(exception);
+
+        scheduleCache.invalidate(workerId);
+        availabilityIndex.evictWorker(workerId);
+
+        return toExceptionResponse(exception);
+    }
+
+    /**
+     * Delete a schedule exception
+     */
+    @Transactional
+    public void deleteScheduleException(Long workerId, Long exceptionId, Long userId) {
+        getManageableWorker(workerId, userId);
+
+        WorkerScheduleException exception = scheduleExceptionRepository.findByIdAndWorkerId(exceptionId, workerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Excepción de horario", exceptionId));
+
+        scheduleExceptionRepository.delete(exception);
+
+        scheduleCache.invalidate(workerId);
+        availabilityIndex.evictWorker(workerId);
+    }
+
+    /**
+     * Load a worker whose schedule can be managed by the user (business owner or the worker)
+     */
+    private Worker getManageableWorker(Long workerId, Long userId) {
+        Worker worker = workerRepository.findById(workerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Trabajador", workerId));
+
+        boolean isOwner = worker.getBusiness().getOwner().getId().equals(userId);
+        boolean isWorker = worker.getUser().getId().equals(userId);
+
+        if (!isOwner && !isWorker) {
+            throw new ForbiddenException("No tienes permiso para modificar este horario");
+        }
+        return worker;
+    }
+
+    /**
+     * Shifts must end after they start, and available shifts of the same day may not overlap
+     */
+    private void validateShifts(List<WorkerScheduleRequest> schedules) {
+        for (WorkerScheduleRequest scheduleReq : schedules) {
+            requireWholeMinutes(scheduleReq.getStartTime(), scheduleReq.getEndTime());
+            if (!scheduleReq.getEndTime().isAfter(scheduleReq.getStartTime())) {
+                throw new BadRequestException("La hora de fin debe ser posterior a la hora de inicio");
+            }
+        }
+
+        List<WorkerScheduleRequest> shifts = schedules.stream()
+                .filter(s -> s.getAvailable() == null || s.getAvailable())
+                .sorted(Comparator.comparing(WorkerScheduleRequest::getDayOfWeek)
+                        .thenComparing(WorkerScheduleRequest::getStartTime))
+                .collect(Collectors.toList());
+
+        for (int i = 1; i < shifts.size(); i++) {
+            WorkerScheduleRequest previous = shifts.get(i - 1);
+            WorkerScheduleRequest current = shifts.get(i);
+            if (previous.getDayOfWeek().equals(current.getDayOfWeek())
+                    && current.getStartTime().isBefore(previous.getEndTime())) {
+                throw new BadRequestException("Los turnos del " + DAY_NAMES[current.getDayOfWeek()] + " se solapan");
+            }
+        }
+    }
+
+    /**
+     * Schedules are kept in whole minutes; seconds would be dropped and could leave an empty window
+     */
+    private static void requireWholeMinutes(LocalTime start, LocalTime end) {
+        if (start.getSecond() != 0 || start.getNano() != 0 || end.getSecond() != 0 || end.getNano() != 0) {
+            throw new BadRequestException("Las horas deben indicarse en horas y minutos, sin segundos");
+        }
+    }
+
     private WorkerResponse toResponse(Worker worker) {
         return WorkerResponse.builder()
                 .id(worker.getId())
@@ -205,6 +398,8 @@ public class WorkerService {
                 .active(worker.isActive())
                 .businessId(worker.getBusiness().getId())
                 .businessName(worker.getBusiness().getName())
+                .averageRating(worker.getAverageRating())
+                .totalReviews(worker.getRatingCount())
                 .createdAt(worker.getCreatedAt())
                 .build();
     }
@@ -232,5 +427,17 @@ public class WorkerService {
                 .available(schedule.isAvailable())
                 .build();
     }
-}
 
+    private WorkerScheduleExceptionResponse toExceptionResponse(WorkerScheduleException exception) {
+        return WorkerScheduleExceptionResponse.builder()
+                .id(exception.getId())
+                .workerId(exception.getWorker().getId())
+                .startDate(exception.getStartDate())
+                .endDate(exception.getEndDate())
+                .startTime(exception.getStartTime())
+                .endTime(exception.getEndTime())
+                .available(exception.isAvailable())
+                .reason(exception.getReason())
+                .build();
+    }
+}
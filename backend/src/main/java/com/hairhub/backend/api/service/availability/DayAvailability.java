@@ -0,0 +1,139 @@
+package com.hairhub.backend.api.service.availability;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bookable time of one worker on one day, stored as a bitmap of fixed granules.
+ * A set bit means the granule is inside the worker's schedule and not taken by an appointment.
+ * Schedule bounds are rounded inwards and appointments outwards, so a slot reported as free
+ * is always free in the database.
+ */
+public final class DayAvailability {
+
+    public static final int GRANULE_MINUTES = 5;
+    public static final int GRANULES_PER_DAY = TimeWindow.MINUTES_PER_DAY / GRANULE_MINUTES;
+
+    private static final int WORDS = (GRANULES_PER_DAY + 63) / 64;
+
+    private final LocalDate date;
+    private final long[] free = new long[WORDS];
+    private final List<TimeWindow> openWindows = new ArrayList<>();
+
+    public DayAvailability(LocalDate date) {
+        this.date = date;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Working windows of the day, sorted by start time
+     */
+    public synchronized List<TimeWindow> getOpenWindows() {
+        return Collections.unmodifiableList(new ArrayList<>(openWindows));
+    }
+
+    /**
+     * Mark a schedule window as open for bookings
+     */
+    public synchronized void open(TimeWindow window) {
+        openWindows.add(window);
+        openWindows.sort(Comparator.comparingInt(TimeWindow::startMinute));
+        setRange(ceilGranule(window.startMinute()), floorGranule(window.endMinute()));
+    }
+
+    public void open(LocalTime start, LocalTime end) {
+        open(TimeWindow.of(start, end));
+    }
+
+    /**
+     * Mark the part of [start, end) that falls on this day as taken
+     */
+    public synchronized void occupy(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+        if (!start.isBefore(dayEnd) || !end.isAfter(dayStart)) {
+            return;
+        }
+
+        long fromMinute = start.isBefore(dayStart) ? 0 : Duration.between(dayStart, start).toMinutes();
+        long toMinute = end.isAfter(dayEnd)
+                ? TimeWindow.MINUTES_PER_DAY
+                : (Duration.between(dayStart, end).toSeconds() + 59) / 60;
+
+        clearRange(floorGranule((int) fromMinute), ceilGranule((int) toMinute));
+    }
+
+    /**
+     * Whether every granule touched by [fromMinute, toMinute) is free
+     */
+    public synchronized boolean isFree(int fromMinute, int toMinute) {
+        if (fromMinute < 0 || toMinute > TimeWindow.MINUTES_PER_DAY || fromMinute >= toMinute) {
+            return false;
+        }
+        return allSet(floorGranule(fromMinute), ceilGranule(toMinute));
+    }
+
+    // ========== BIT OPERATIONS ==========
+
+    private static int floorGranule(int minute) {
+        return minute / GRANULE_MINUTES;
+    }
+
+    private static int ceilGranule(int minute) {
+        return (minute + GRANULE_MINUTES - 1) / GRANULE_MINUTES;
+    }
+
+    private void setRange(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        for (int w = firstWord; w <= lastWord; w++) {
+            free[w] |= rangeMask(w, firstWord, lastWord, from, to);
+        }
+    }
+
+    private void clearRange(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        for (int w = firstWord; w <= lastWord; w++) {
+            free[w] &= ~rangeMask(w, firstWord, lastWord, from, to);
+        }
+    }
+
+    private boolean allSet(int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        for (int w = firstWord; w <= lastWord; w++) {
+            long mask = rangeMask(w, firstWord, lastWord, from, to);
+            if ((free[w] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long rangeMask(int word, int firstWord, int lastWord, int from, int to) {
+        long mask = -1L;
+        if (word == firstWord) {
+            mask &= -1L << (from & 63);
+        }
+        if (word == lastWord) {
+            mask &= -1L >>> (63 - ((to - 1) & 63));
+        }
+        return mask;
+    }
+}
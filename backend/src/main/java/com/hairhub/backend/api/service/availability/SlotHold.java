@@ -0,0 +1,20 @@
+package com.hairhub.backend.api.service.availability;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Temporary claim of a client on a worker's time slot, released on booking or expiry
+ */
+public record SlotHold(UUID id, Long workerId, Long clientId, LocalDateTime startTime, LocalDateTime endTime,
+        Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startTime.isBefore(end) && endTime.isAfter(start);
+    }
+}
@@ -0,0 +1,128 @@
+package com.hairhub.backend.api.service.availability;
+
+import com.hairhub.backend.api.exception.ConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory holds on worker slots.
+ * Each worker maps to an immutable list that is replaced atomically, so reads never lock
+ * and competing clients are rejected without touching the database. Holds are local to
+ * this instance and expire after a short TTL; a worker whose list becomes empty is removed.
+ */
+@Component
+public class SlotHoldRegistry {
+
+    private final Map<Long, List<SlotHold>> holdsByWorker = new ConcurrentHashMap<>();
+
+    @Value("${app.availability.holds.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /**
+     * Hold a slot for a client. A client keeps at most one hold per worker, so holding
+     * another slot of the same worker replaces the previous one.
+     */
+    public SlotHold hold(Long workerId, Long clientId, LocalDateTime start, LocalDateTime end) {
+        Instant now = Instant.now();
+        SlotHold hold = new SlotHold(UUID.randomUUID(), workerId, clientId, start, end, now.plusSeconds(ttlSeconds));
+
+        holdsByWorker.compute(workerId, (id, current) -> {
+            List<SlotHold> next = new ArrayList<>();
+            for (SlotHold existing : current != null ? current : List.<SlotHold>of()) {
+                if (existing.isExpired(now) || existing.clientId().equals(clientId)) {
+                    continue;
+                }
+                if (existing.overlaps(start, end)) {
+                    throw new ConflictException("Este horario está reservado temporalmente por otro cliente");
+                }
+                next.add(existing);
+            }
+            next.add(hold);
+            return List.copyOf(next);
+        });
+        return hold;
+    }
+
+    /**
+     * Active holds on a worker's slots
+     */
+    public List<SlotHold> activeHolds(Long workerId) {
+        List<SlotHold> holds = holdsByWorker.get(workerId);
+        if (holds == null) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        return holds.stream()
+                .filter(h -> !h.isExpired(now))
+                .toList();
+    }
+
+    /**
+     * Whether any part of [start, end) is held by a client other than the given one
+     */
+    public boolean isHeldByOther(Long workerId, Long clientId, LocalDateTime start, LocalDateTime end) {
+        return activeHolds(workerId).stream()
+                .anyMatch(h -> !h.clientId().equals(clientId) && h.overlaps(start, end));
+    }
+
+    /**
+     * Release a hold owned by the client. Returns false if it does not exist or already expired.
+     */
+    public boolean release(UUID holdId, Long clientId) {
+        for (Long workerId : holdsByWorker.keySet()) {
+            boolean[] removed = {false};
+            holdsByWorker.computeIfPresent(workerId, (id, current) -> {
+                Instant now = Instant.now();
+                List<SlotHold> next = new ArrayList<>(current);
+                removed[0] = next.removeIf(h -> h.id().equals(holdId) && h.clientId().equals(clientId));
+                next.removeIf(h -> h.isExpired(now));
+                return next.isEmpty() ? null : List.copyOf(next);
+            });
+            if (removed[0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drop the client's hold on a worker once the current transaction commits (slot booked)
+     */
+    public void releaseClient(Long workerId, Long clientId) {
+        AfterCommit.run(() -> holdsByWorker.computeIfPresent(workerId, (id, current) -> {
+            Instant now = Instant.now();
+            List<SlotHold> next = current.stream()
+                    .filter(h -> !h.clientId().equals(clientId) && !h.isExpired(now))
+                    .toList();
+            return next.isEmpty() ? null : next;
+        }));
+    }
+
+    /**
+     * Drop expired holds, and the workers left without any, which no request touches again
+     */
+    @Scheduled(fixedDelayString = "${app.availability.holds.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        Instant now = Instant.now();
+        for (Long workerId : holdsByWorker.keySet()) {
+            holdsByWorker.computeIfPresent(workerId, (id, current) -> {
+                if (current.stream().noneMatch(h -> h.isExpired(now))) {
+                    return current;
+                }
+                List<SlotHold> next = current.stream()
+                        .filter(h -> !h.isExpired(now))
+                        .toList();
+                return next.isEmpty() ? null : next;
+            });
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.hairhub.backend.api.service.availability;
+
+import java.time.LocalTime;
+
+/**
+ * Half-open interval of a day expressed in minutes since midnight.
+ * An end of 1440 means the window runs until the end of the day.
+ */
+public record TimeWindow(int startMinute, int endMinute) {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    public TimeWindow {
+        if (startMinute < 0 || endMinute > MINUTES_PER_DAY || startMinute >= endMinute) {
+            throw new IllegalArgumentException("Invalid time window: " + startMinute + "-" + endMinute);
+        }
+    }
+
+    public static TimeWindow of(LocalTime start, LocalTime end) {
+        return new TimeWindow(start.getHour() * 60 + start.getMinute(), end.getHour() * 60 + end.getMinute());
+    }
+
+    public static LocalTime toLocalTime(int minuteOfDay) {
+        return LocalTime.of((minuteOfDay / 60) % 24, minuteOfDay % 60);
+    }
+
+    public LocalTime startTime() {
+        return toLocalTime(startMinute);
+    }
+
+    public LocalTime endTime() {
+        return toLocalTime(endMinute);
+    }
+
+    public int lengthMinutes() {
+        return endMinute - startMinute;
+    }
+
+    public boolean contains(int fromMinute, int toMinute) {
+        return fromMinute >= startMinute && toMinute <= endMinute;
+    }
+}
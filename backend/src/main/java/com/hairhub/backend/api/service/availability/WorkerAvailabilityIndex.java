@@ -0,0 +1,124 @@
+package com.hairhub.backend.api.service.availability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of worker availability per day.
+ * Days are built lazily from the schedule and the day's appointments, kept current by the
+ * booking flow and expire after a short TTL so changes made by other instances are picked up.
+ */
+@Component
+public class WorkerAvailabilityIndex {
+
+    private final Map<Key, Entry> days = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every booking, release or eviction so a load that raced with it is not stored
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${app.availability.index.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${app.availability.index.max-days:20000}")
+    private int maxDays;
+
+    /**
+     * Get the cached availability of a worker on a date, or null if not loaded.
+     */
+    public DayAvailability peek(Long workerId, LocalDate date) {
+        Key key = new Key(workerId, date);
+        Entry entry = days.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime(), ttlMinutes)) {
+            days.remove(key, entry);
+            return null;
+        }
+        return entry.day();
+    }
+
+    /**
+     * Current generation, to be read before loading the data passed to {@link #put}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Store an availability built elsewhere (e.g. from a bulk query). Skipped if a booking,
+     * release or eviction was committed since loadGeneration was read, as the day may miss it.
+     */
+    public void put(Long workerId, LocalDate date, DayAvailability day, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        if (days.size() >= maxDays) {
+            evictPastDays();
+        }
+        days.put(new Key(workerId, date), new Entry(day, System.nanoTime()));
+    }
+
+    /**
+     * Mark a booked interval as taken once the current transaction commits.
+     */
+    public void occupy(Long workerId, LocalDateTime start, LocalDateTime end) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            for (LocalDate date = start.toLocalDate(); date.isBefore(end.toLocalDate().plusDays(1)); date = date.plusDays(1)) {
+                DayAvailability day = peek(workerId, date);
+                if (day != null) {
+                    day.occupy(start, end);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drop the days touched by a released interval once the current transaction commits.
+     * They are rebuilt on the next read, which keeps overlapping legacy rows correct.
+     */
+    public void release(Long workerId, LocalDateTime start, LocalDateTime end) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            for (LocalDate date = start.toLocalDate(); date.isBefore(end.toLocalDate().plusDays(1)); date = date.plusDays(1)) {
+                days.remove(new Key(workerId, date));
+            }
+        });
+    }
+
+    /**
+     * Drop every cached day of a worker (schedule or status change).
+     */
+    public void evictWorker(Long workerId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            days.keySet().removeIf(key -> key.workerId().equals(workerId));
+        });
+    }
+
+    private void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(key -> key.date().isBefore(today));
+        if (days.size() >= maxDays) {
+            days.clear();
+        }
+    }
+
+    private record Key(Long workerId, LocalDate date) {
+    }
+
+    private record Entry(DayAvailability day, long loadedAtNanos) {
+        boolean isExpired(long nowNanos, long ttlMinutes) {
+            return nowNanos - loadedAtNanos > ttlMinutes * 60_000_000_000L;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.hairhub.backend.api.service.availability;
+
+import com.hairhub.backend.domain.business.WorkerSchedule;
+import com.hairhub.backend.domain.business.WorkerScheduleException;
+import com.hairhub.backend.domain.business.WorkerScheduleExceptionRepository;
+import com.hairhub.backend.domain.business.WorkerScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded cache of compiled worker schedules (weekly shifts and upcoming exceptions).
+ * Schedules change rarely, so bookings and availability reads skip the schedule query.
+ * Entries are invalidated when a worker's schedule or status changes and expire after a TTL
+ * so changes made by other instances are picked up.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkerScheduleCache {
+
+    private final WorkerScheduleRepository workerScheduleRepository;
+    private final WorkerScheduleExceptionRepository exceptionRepository;
+
+    private final Map<Long, Entry> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every invalidation so a load that raced with it is not stored
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${app.availability.schedules.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${app.availability.schedules.max-workers:5000}")
+    private int maxWorkers;
+
+    /**
+     * Compiled schedule of a worker, loaded on a miss
+     */
+    public WorkerScheduleSnapshot get(Long workerId) {
+        WorkerScheduleSnapshot cached = peek(workerId);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        WorkerScheduleSnapshot snapshot = WorkerScheduleSnapshot.of(
+                workerScheduleRepository.findByWorkerIdAndAvailableTrue(workerId),
+                exceptionRepository.findByWorkerIdAndEndDateGreaterThanEqualOrderByStartDateAsc(
+                        workerId, exceptionsFrom()));
+        store(workerId, snapshot, loadGeneration);
+        return snapshot;
+    }
+
+    /**
+     * Compiled schedules of several workers, loading every miss with one query per table
+     */
+    public Map<Long, WorkerScheduleSnapshot> getAll(Collection<Long> workerIds) {
+        Map<Long, WorkerScheduleSnapshot> result = new HashMap<>();
+        List<Long> missing = workerIds.stream()
+                .filter(id -> {
+                    WorkerScheduleSnapshot cached = peek(id);
+                    if (cached != null) {
+                        result.put(id, cached);
+                    }
+                    return cached == null;
+                })
+                .collect(Collectors.toList());
+
+        if (!missing.isEmpty()) {
+            long loadGeneration = generation.get();
+            Map<Long, List<WorkerSchedule>> schedulesByWorker = workerScheduleRepository
+                    .findByWorkerIdInAndAvailableTrue(missing)
+                    .stream()
+                    .collect(Collectors.groupingBy(s -> s.getWorker().getId()));
+            Map<Long, List<WorkerScheduleException>> exceptionsByWorker = exceptionRepository
+                    .findByWorkerIdInAndEndDateGreaterThanEqual(missing, exceptionsFrom())
+                    .stream()
+                    .collect(Collectors.groupingBy(e -> e.getWorker().getId()));
+
+            for (Long workerId : missing) {
+                WorkerScheduleSnapshot snapshot = WorkerScheduleSnapshot.of(
+                        schedulesByWorker.getOrDefault(workerId, List.of()),
+                        exceptionsByWorker.getOrDefault(workerId, List.of()));
+                store(workerId, snapshot, loadGeneration);
+                result.put(workerId, snapshot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drop a worker's schedule once the current transaction commits (shifts, exceptions or status changed)
+     */
+    public void invalidate(Long workerId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            snapshots.remove(workerId);
+        });
+    }
+
+    /**
+     * Exceptions that ended before yesterday cannot affect bookable dates
+     */
+    private LocalDate exceptionsFrom() {
+        return LocalDate.now().minusDays(1);
+    }
+
+    private WorkerScheduleSnapshot peek(Long workerId) {
+        Entry entry = snapshots.get(workerId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAtNanos() > ttlMinutes * 60_000_000_000L) {
+            snapshots.remove(workerId, entry);
+            return null;
+        }
+        return entry.snapshot();
+    }
+
+    private void store(Long workerId, WorkerScheduleSnapshot snapshot, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        if (snapshots.size() >= maxWorkers) {
+            snapshots.clear();
+        }
+        snapshots.put(workerId, new Entry(snapshot, System.nanoTime()));
+    }
+
+    private record Entry(WorkerScheduleSnapshot snapshot, long loadedAtNanos) {
+    }
+}
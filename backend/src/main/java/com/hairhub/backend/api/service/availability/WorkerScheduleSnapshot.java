@@ -0,0 +1,193 @@
+package com.hairhub.backend.api.service.availability;
+
+import com.hairhub.backend.domain.business.WorkerSchedule;
+import com.hairhub.backend.domain.business.WorkerScheduleException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable schedule of a worker: weekly shifts indexed by day of week (0=Sunday, as stored)
+ * plus the dated exceptions that override them.
+ * Effective hours of a date are a sorted set of non-overlapping windows, computed by linear
+ * merges over the (already sorted) shifts and exceptions.
+ */
+public final class WorkerScheduleSnapshot {
+
+    public static final WorkerScheduleSnapshot EMPTY = of(List.of());
+
+    private final List<List<TimeWindow>> weeklyWindows;
+    private final List<DatedException> exceptions;
+
+    private WorkerScheduleSnapshot(List<List<TimeWindow>> weeklyWindows, List<DatedException> exceptions) {
+        this.weeklyWindows = weeklyWindows;
+        this.exceptions = exceptions;
+    }
+
+    public static WorkerScheduleSnapshot of(List<WorkerSchedule> schedules) {
+        return of(schedules, List.of());
+    }
+
+    /**
+     * Compile the available shifts and the exceptions of a worker
+     */
+    public static WorkerScheduleSnapshot of(List<WorkerSchedule> schedules, List<WorkerScheduleException> exceptions) {
+        List<List<TimeWindow>> byDay = new ArrayList<>(7);
+        for (int day = 0; day < 7; day++) {
+            byDay.add(new ArrayList<>());
+        }
+        for (WorkerSchedule schedule : schedules) {
+            if (schedule.isAvailable() && spansMinute(schedule.getStartTime(), schedule.getEndTime())) {
+                byDay.get(schedule.getDayOfWeek()).add(TimeWindow.of(schedule.getStartTime(), schedule.getEndTime()));
+            }
+        }
+
+        List<DatedException> dated = exceptions.stream()
+                .filter(e -> e.isWholeDay() || spansMinute(e.getStartTime(), e.getEndTime()))
+                .map(e -> new DatedException(e.getStartDate(), e.getEndDate(),
+                        e.isWholeDay() ? null : TimeWindow.of(e.getStartTime(), e.getEndTime()),
+                        e.isAvailable()))
+                .sorted(Comparator.comparing(DatedException::startDate))
+                .toList();
+
+        return new WorkerScheduleSnapshot(byDay.stream().map(WorkerScheduleSnapshot::merge).toList(), dated);
+    }
+
+    /**
+     * Effective working windows on a date, sorted and non-overlapping.
+     * Available exceptions replace the weekly shifts; unavailable ones are subtracted
+     * and a whole-day unavailable exception always wins.
+     */
+    public List<TimeWindow> windowsOn(LocalDate date) {
+        List<TimeWindow> windows = weeklyWindows.get(dayIndex(date.getDayOfWeek()));
+        if (exceptions.isEmpty()) {
+            return windows;
+        }
+
+        List<TimeWindow> replacements = new ArrayList<>();
+        List<TimeWindow> removals = new ArrayList<>();
+        for (DatedException exception : exceptions) {
+            if (exception.startDate().isAfter(date)) {
+                break;
+            }
+            if (!exception.covers(date)) {
+                continue;
+            }
+            if (exception.window() == null) {
+                if (!exception.available()) {
+                    return List.of();
+                }
+            } else if (exception.available()) {
+                replacements.add(exception.window());
+            } else {
+                removals.add(exception.window());
+            }
+        }
+
+        if (!replacements.isEmpty()) {
+            windows = merge(replacements);
+        }
+        return removals.isEmpty() ? windows : subtract(windows, merge(removals));
+    }
+
+    public boolean isWorkingOn(LocalDate date) {
+        return !windowsOn(date).isEmpty();
+    }
+
+    /**
+     * Whether [start, end) falls inside a working window of the start date
+     */
+    public boolean covers(LocalDateTime start, LocalDateTime end) {
+        LocalDate date = start.toLocalDate();
+        int fromMinute = start.getHour() * 60 + start.getMinute();
+        int toMinute = end.toLocalDate().equals(date)
+                ? end.getHour() * 60 + end.getMinute() + (end.getSecond() > 0 || end.getNano() > 0 ? 1 : 0)
+                : TimeWindow.MINUTES_PER_DAY + 1;
+
+        for (TimeWindow window : windowsOn(date)) {
+            if (window.startMinute() > fromMinute) {
+                return false;
+            }
+            if (window.contains(fromMinute, toMinute)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the range is still non-empty once TimeWindow drops the seconds.
+     * Sub-minute legacy rows are skipped instead of failing the whole snapshot.
+     */
+    private static boolean spansMinute(LocalTime start, LocalTime end) {
+        return start.getHour() * 60 + start.getMinute() < end.getHour() * 60 + end.getMinute();
+    }
+
+    private static int dayIndex(DayOfWeek dayOfWeek) {
+        // Java uses 1=Monday to 7=Sunday, schedules use 0=Sunday
+        return dayOfWeek.getValue() % 7;
+    }
+
+    // ========== INTERVAL OPERATIONS ==========
+
+    /**
+     * Sort windows and join the ones that overlap or touch
+     */
+    private static List<TimeWindow> merge(List<TimeWindow> windows) {
+        if (windows.size() < 2) {
+            return List.copyOf(windows);
+        }
+        List<TimeWindow> sorted = windows.stream()
+                .sorted(Comparator.comparingInt(TimeWindow::startMinute))
+                .toList();
+
+        List<TimeWindow> merged = new ArrayList<>();
+        TimeWindow current = sorted.get(0);
+        for (TimeWindow next : sorted.subList(1, sorted.size())) {
+            if (next.startMinute() <= current.endMinute()) {
+                current = new TimeWindow(current.startMinute(), Math.max(current.endMinute(), next.endMinute()));
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        return List.copyOf(merged);
+    }
+
+    /**
+     * Remove the merged cuts from the merged windows in one pass over both lists
+     */
+    private static List<TimeWindow> subtract(List<TimeWindow> windows, List<TimeWindow> cuts) {
+        List<TimeWindow> result = new ArrayList<>();
+        int firstCut = 0;
+        for (TimeWindow window : windows) {
+            int start = window.startMinute();
+            while (firstCut < cuts.size() && cuts.get(firstCut).endMinute() <= start) {
+                firstCut++;
+            }
+            for (int i = firstCut; i < cuts.size() && cuts.get(i).startMinute() < window.endMinute(); i++) {
+                TimeWindow cut = cuts.get(i);
+                if (cut.startMinute() > start) {
+                    result.add(new TimeWindow(start, cut.startMinute()));
+                }
+                start = Math.max(start, cut.endMinute());
+            }
+            if (start < window.endMinute()) {
+                result.add(new TimeWindow(start, window.endMinute()));
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private record DatedException(LocalDate startDate, LocalDate endDate, TimeWindow window, boolean available) {
+        boolean covers(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+}
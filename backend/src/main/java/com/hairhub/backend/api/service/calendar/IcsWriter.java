@@ -0,0 +1,109 @@
+package com.hairhub.backend.api.service.calendar;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Minimal RFC 5545 writer that streams a VCALENDAR event by event.
+ * Text is escaped and lines are folded at 75 octets; times are written as floating local time.
+ */
+public final class IcsWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] FOLD = {'\r', '\n', ' '};
+
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final OutputStream out;
+
+    public IcsWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    public void begin(String calendarName) {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//HairHub//Agenda//ES");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + escape(calendarName));
+    }
+
+    public void event(Event event) {
+        line("BEGIN:VEVENT");
+        line("UID:" + event.uid());
+        line("DTSTAMP:" + UTC.format(event.stamp()));
+        line("DTSTART:" + LOCAL.format(event.start()));
+        line("DTEND:" + LOCAL.format(event.end()));
+        line("SUMMARY:" + escape(event.summary()));
+        if (event.location() != null && !event.location().isBlank()) {
+            line("LOCATION:" + escape(event.location()));
+        }
+        if (event.description() != null && !event.description().isBlank()) {
+            line("DESCRIPTION:" + escape(event.description()));
+        }
+        line("STATUS:" + event.status());
+        line("END:VEVENT");
+    }
+
+    public void end() {
+        line("END:VCALENDAR");
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    private void line(String content) {
+        try {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            int start = 0;
+            int limit = MAX_LINE_OCTETS;
+            while (bytes.length - start > limit) {
+                int cut = start + limit;
+                // Never split a multi-byte UTF-8 sequence
+                while ((bytes[cut] & 0xC0) == 0x80) {
+                    cut--;
+                }
+                out.write(bytes, start, cut - start);
+                out.write(FOLD);
+                start = cut;
+                // Continuation lines start with a space that counts towards the limit
+                limit = MAX_LINE_OCTETS - 1;
+            }
+            out.write(bytes, start, bytes.length - start);
+            out.write(CRLF);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * One appointment as a VEVENT; status is CONFIRMED, TENTATIVE or CANCELLED
+     */
+    public record Event(String uid, Instant stamp, LocalDateTime start, LocalDateTime end,
+                        String summary, String location, String description, String status) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.hairhub.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the background jobs (@Scheduled methods)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -37,13 +37,19 @@ public class SecurityConfig {
                                 "/api/auth/**",
                                 "/api/health",
                                 "/api/businesses/search",
+                                "/api/businesses/search/cursor",
+                                "/api/businesses/search/suggestions",
+                                "/api/businesses/search/nearby",
                                 "/api/businesses/categories",
                                 "/api/businesses/{id:[\\d]+}",
                                 "/api/businesses/{businessId:[\\d]+}/services",
                                 "/api/businesses/{businessId:[\\d]+}/services/{serviceId:[\\d]+}",
                                 "/api/businesses/{businessId:[\\d]+}/workers",
+                                "/api/businesses/{businessId:[\\d]+}/workers/leaderboard",
                                 "/api/businesses/{businessId:[\\d]+}/workers/{workerId:[\\d]+}",
                                 "/api/businesses/{businessId:[\\d]+}/reviews",
+                                "/api/businesses/{businessId:[\\d]+}/reviews/cursor",
+                                "/api/calendar/feeds/*.ics",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
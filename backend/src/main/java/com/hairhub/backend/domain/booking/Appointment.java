@@ -23,6 +23,12 @@ import java.time.LocalDateTime;
 @Builder
 public class Appointment {
 
+    /**
+     * Exclusion constraint that rejects overlapping active appointments of a worker (V6).
+     * Since V11 every monthly partition has its own copy named with this prefix.
+     */
+    public static final String NO_OVERLAP_CONSTRAINT = "appointments_no_overlap";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
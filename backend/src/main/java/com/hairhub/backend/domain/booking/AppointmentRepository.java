@@ -1,27 +1,160 @@
 package com.hairhub.backend.domain.booking;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
 
     /**
-     * Find appointments for a specific client
+     * Select list and joins of AppointmentView; every listing reads in one statement
      */
-    Page<Appointment> findByClientIdOrderByStartTimeDesc(Long clientId, Pageable pageable);
+    String VIEW_SELECT = "SELECT new com.hairhub.backend.domain.booking.AppointmentView("
+            + "a.id, c.id, cp.fullName, cp.phone, w.id, wu.id, wp.fullName, "
+            + "s.id, s.name, s.price, s.durationMinutes, b.id, b.name, b.address, b.owner.id, "
+            + "a.startTime, a.endTime, a.status, a.clientNotes, a.cancellationReason, a.createdAt, "
+            + "r.id, r.rating, r.comment, r.createdAt) "
+            + "FROM Appointment a "
+            + "JOIN a.client c LEFT JOIN c.profile cp "
+            + "JOIN a.worker w JOIN w.user wu LEFT JOIN wu.profile wp "
+            + "JOIN w.business b JOIN a.service s "
+            + "LEFT JOIN a.review r ";
 
     /**
-     * Find appointments for a specific worker
+     * Seek predicate for (startTime, id) DESC listings. The redundant upper bound on startTime
+     * lets the (owner, start_time DESC, id DESC) indexes start the scan at the cursor.
      */
-    Page<Appointment> findByWorkerIdOrderByStartTimeDesc(Long workerId, Pageable pageable);
+    String BEFORE_CURSOR = "AND a.startTime <= :startTime AND (a.startTime < :startTime OR a.id < :id) ";
+
+    /**
+     * Find appointment views for a specific client, newest first
+     */
+    @Query(value = VIEW_SELECT + "WHERE c.id = :clientId ORDER BY a.startTime DESC, a.id DESC",
+            countQuery = "SELECT COUNT(a) FROM Appointment a WHERE a.client.id = :clientId")
+    Page<AppointmentView> findViewsByClientId(@Param("clientId") Long clientId, Pageable pageable);
+
+    /**
+     * Find appointment views for a specific worker, newest first
+     */
+    @Query(value = VIEW_SELECT + "WHERE w.id = :workerId ORDER BY a.startTime DESC, a.id DESC",
+            countQuery = "SELECT COUNT(a) FROM Appointment a WHERE a.worker.id = :workerId")
+    Page<AppointmentView> findViewsByWorkerId(@Param("workerId") Long workerId, Pageable pageable);
+
+    /**
+     * First keyset slice of a client's appointment views, newest first
+     */
+    @Query(VIEW_SELECT + "WHERE c.id = :clientId ORDER BY a.startTime DESC, a.id DESC")
+    List<AppointmentView> findViewSliceByClientId(@Param("clientId") Long clientId, Limit limit);
+
+    /**
+     * Keyset slice of a client's appointment views after the given (startTime, id)
+     */
+    @Query(VIEW_SELECT + "WHERE c.id = :clientId " + BEFORE_CURSOR + "ORDER BY a.startTime DESC, a.id DESC")
+    List<AppointmentView> findViewSliceByClientIdAfter(
+            @Param("clientId") Long clientId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * First keyset slice of a worker's appointment views, newest first
+     */
+    @Query(VIEW_SELECT + "WHERE w.id = :workerId ORDER BY a.startTime DESC, a.id DESC")
+    List<AppointmentView> findViewSliceByWorkerId(@Param("workerId") Long workerId, Limit limit);
+
+    /**
+     * Keyset slice of a worker's appointment views after the given (startTime, id)
+     */
+    @Query(VIEW_SELECT + "WHERE w.id = :workerId " + BEFORE_CURSOR + "ORDER BY a.startTime DESC, a.id DESC")
+    List<AppointmentView> findViewSliceByWorkerIdAfter(
+            @Param("workerId") Long workerId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * Find the view of a single appointment
+     */
+    @Query(VIEW_SELECT + "WHERE a.id = :id")
+    Optional<AppointmentView> findViewById(@Param("id") Long id);
+
+    /**
+     * Find the status and authorization data of several appointments in one statement
+     */
+    @Query("SELECT new com.hairhub.backend.domain.booking.AppointmentStatusView("
+            + "a.id, w.id, w.user.id, b.owner.id, a.status, a.startTime, a.endTime) "
+            + "FROM Appointment a JOIN a.worker w JOIN w.business b WHERE a.id IN :ids")
+    List<AppointmentStatusView> findStatusViewsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Move appointments to a status, only if they are still in one of the expected statuses
+     */
+    @Modifying
+    @Query("UPDATE Appointment a SET a.status = :status, a.updatedAt = :now "
+            + "WHERE a.id IN :ids AND a.status IN :fromStatuses")
+    int updateStatuses(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") AppointmentStatus status,
+            @Param("fromStatuses") Collection<AppointmentStatus> fromStatuses,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Cancel appointments with a reason, only if they are still in one of the expected statuses
+     */
+    @Modifying
+    @Query("UPDATE Appointment a SET a.status = com.hairhub.backend.domain.booking.AppointmentStatus.CANCELLED, "
+            + "a.cancellationReason = :reason, a.updatedAt = :now "
+            + "WHERE a.id IN :ids AND a.status IN :fromStatuses")
+    int cancelAll(
+            @Param("ids") Collection<Long> ids,
+            @Param("reason") String reason,
+            @Param("fromStatuses") Collection<AppointmentStatus> fromStatuses,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Finalize one chunk of open appointments that ended before the cutoff, following the
+     * policy of each business. Rows locked by other transactions are skipped, so the chunk
+     * never waits on user requests and several instances can sweep at once.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE appointments a
+            SET status = CASE
+                    WHEN b.expired_appointment_policy = 'COMPLETE_ALL' THEN 'COMPLETED'
+                    WHEN b.expired_appointment_policy = 'NO_SHOW_ALL' THEN 'NO_SHOW'
+                    WHEN a.status = 'CONFIRMED' THEN 'COMPLETED'
+                    ELSE 'NO_SHOW'
+                END
+            FROM workers w
+            JOIN businesses b ON b.id = w.business_id
+            WHERE w.id = a.worker_id
+              AND a.id IN (
+                SELECT x.id
+                FROM appointments x
+                JOIN workers xw ON xw.id = x.worker_id
+                JOIN businesses xb ON xb.id = xw.business_id
+                WHERE x.status IN ('PENDING', 'CONFIRMED')
+                  AND x.end_time < :cutoff
+                  AND xb.expired_appointment_policy <> 'MANUAL'
+                ORDER BY x.end_time
+                LIMIT :batchSize
+                FOR UPDATE OF x SKIP LOCKED
+              )
+            """, nativeQuery = true)
+    int finalizeExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 
     /**
      * Find appointments for a worker in a time range (for availability checking)
@@ -35,14 +168,14 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     /**
      * Find upcoming appointments for a client
      */
-    @Query("SELECT a FROM Appointment a WHERE a.client.id = :clientId AND a.startTime >= :now AND a.status IN ('PENDING', 'CONFIRMED') ORDER BY a.startTime ASC")
-    List<Appointment> findUpcomingForClient(@Param("clientId") Long clientId, @Param("now") LocalDateTime now);
+    @Query(VIEW_SELECT + "WHERE c.id = :clientId AND a.startTime >= :now AND a.status IN ('PENDING', 'CONFIRMED') ORDER BY a.startTime ASC")
+    List<AppointmentView> findUpcomingForClient(@Param("clientId") Long clientId, @Param("now") LocalDateTime now);
 
     /**
      * Find upcoming appointments for a worker
      */
-    @Query("SELECT a FROM Appointment a WHERE a.worker.id = :workerId AND a.startTime >= :now AND a.status IN ('PENDING', 'CONFIRMED') ORDER BY a.startTime ASC")
-    List<Appointment> findUpcomingForWorker(@Param("workerId") Long workerId, @Param("now") LocalDateTime now);
+    @Query(VIEW_SELECT + "WHERE w.id = :workerId AND a.startTime >= :now AND a.status IN ('PENDING', 'CONFIRMED') ORDER BY a.startTime ASC")
+    List<AppointmentView> findUpcomingForWorker(@Param("workerId") Long workerId, @Param("now") LocalDateTime now);
 
     /**
      * Count appointments by status for a business (for statistics)
@@ -58,4 +191,40 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
             @Param("workerId") Long workerId,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Find appointments for several workers within a date range (for business-wide availability)
+     */
+    @Query("SELECT a FROM Appointment a WHERE a.worker.id IN :workerIds AND a.startTime >= :startTime AND a.startTime <= :endTime ORDER BY a.startTime ASC")
+    List<Appointment> findByWorkerIdsAndDateRange(
+            @Param("workerIds") Collection<Long> workerIds,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Booked minutes of the appointments of a business per worker and hour of [from, to).
+     * Sparse: one row per worker and hour with bookings, as (worker_id, day_of_month, hour_of_day,
+     * booked_minutes). Scheduled minutes are computed by the caller from the worker schedules.
+     */
+    @Query(value = """
+            SELECT a.worker_id,
+                   CAST(EXTRACT(DAY FROM h.bucket_start) AS integer) AS day_of_month,
+                   CAST(EXTRACT(HOUR FROM h.bucket_start) AS integer) AS hour_of_day,
+                   CAST(ROUND(SUM(EXTRACT(EPOCH FROM LEAST(a.end_time, h.bucket_start + INTERVAL '1 hour')
+                                                   - GREATEST(a.start_time, h.bucket_start)) / 60)) AS integer)
+                       AS booked_minutes
+            FROM appointments a
+            JOIN workers w ON w.id = a.worker_id
+            CROSS JOIN LATERAL generate_series(GREATEST(date_trunc('hour', a.start_time), CAST(:from AS timestamp)),
+                                               LEAST(a.end_time, CAST(:to AS timestamp)) - INTERVAL '1 microsecond',
+                                               INTERVAL '1 hour') AS h(bucket_start)
+            WHERE w.business_id = :businessId
+              AND a.status NOT IN ('CANCELLED', 'NO_SHOW')
+              AND a.start_time < :to AND a.end_time > :from
+            GROUP BY a.worker_id, h.bucket_start
+            """, nativeQuery = true)
+    List<Object[]> findBookedMinutesByHour(
+            @Param("businessId") Long businessId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
@@ -27,5 +27,13 @@ public enum AppointmentStatus {
     /**
      * Client did not show up
      */
-    NO_SHOW
+    NO_SHOW;
+
+    /**
+     * Whether an appointment in this status keeps its time slot taken.
+     * Same rule as the appointments_no_overlap constraint.
+     */
+    public boolean occupiesSlot() {
+        return this != CANCELLED && this != NO_SHOW;
+    }
 }
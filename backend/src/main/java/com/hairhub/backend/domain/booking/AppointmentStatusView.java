@@ -0,0 +1,16 @@
+package com.hairhub.backend.domain.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a status change needs to know about an appointment: who may change it and its interval.
+ */
+public record AppointmentStatusView(
+        Long id,
+        Long workerId,
+        Long workerUserId,
+        Long businessOwnerId,
+        AppointmentStatus status,
+        LocalDateTime startTime,
+        LocalDateTime endTime) {
+}
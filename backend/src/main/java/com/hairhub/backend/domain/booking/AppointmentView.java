@@ -0,0 +1,41 @@
+package com.hairhub.backend.domain.booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat read model of an appointment with everything listings show, loaded with a single
+ * JPQL constructor expression instead of walking lazy associations row by row.
+ * Review fields are null when the appointment has no review.
+ */
+public record AppointmentView(
+        Long id,
+        Long clientId,
+        String clientName,
+        String clientPhone,
+        Long workerId,
+        Long workerUserId,
+        String workerName,
+        Long serviceId,
+        String serviceName,
+        BigDecimal servicePrice,
+        Integer serviceDuration,
+        Long businessId,
+        String businessName,
+        String businessAddress,
+        Long businessOwnerId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        AppointmentStatus status,
+        String clientNotes,
+        String cancellationReason,
+        LocalDateTime createdAt,
+        Long reviewId,
+        Integer reviewRating,
+        String reviewComment,
+        LocalDateTime reviewCreatedAt) {
+
+    public boolean hasReview() {
+        return reviewId != null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.hairhub.backend.domain.booking;
+
+import com.hairhub.backend.domain.business.Worker;
+import com.hairhub.backend.domain.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Secret token of an iCalendar feed.
+ * Without a worker it publishes the appointments of the user as a client,
+ * with a worker it publishes that worker's agenda.
+ */
+@Entity
+@Table(name = "calendar_feeds")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarFeed {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String token;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "worker_id")
+    private Worker worker;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isWorkerFeed() {
+        return worker != null;
+    }
+}
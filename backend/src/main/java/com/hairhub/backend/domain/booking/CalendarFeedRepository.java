@@ -0,0 +1,23 @@
+package com.hairhub.backend.domain.booking;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CalendarFeedRepository extends JpaRepository<CalendarFeed, Long> {
+
+    Optional<CalendarFeed> findByToken(String token);
+
+    @Modifying
+    @Query("DELETE FROM CalendarFeed f WHERE f.user.id = :userId AND f.worker IS NULL")
+    void deleteClientFeed(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM CalendarFeed f WHERE f.worker.id = :workerId")
+    void deleteWorkerFeed(@Param("workerId") Long workerId);
+}
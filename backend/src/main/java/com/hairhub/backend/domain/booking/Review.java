@@ -1,5 +1,6 @@
 package com.hairhub.backend.domain.booking;
 
+import com.hairhub.backend.domain.business.Business;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -27,6 +28,13 @@ public class Review {
     @JoinColumn(name = "appointment_id", nullable = false, unique = true)
     private Appointment appointment;
 
+    /**
+     * Business of the appointment, stored for the review feed index
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "business_id", nullable = false)
+    private Business business;
+
     /**
      * Rating from 1 to 5 stars
      */
@@ -1,20 +1,80 @@
 package com.hairhub.backend.domain.booking;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    /**
+     * Select list and joins of ReviewView
+     */
+    String VIEW_SELECT = "SELECT new com.hairhub.backend.domain.booking.ReviewView("
+            + "r.id, r.rating, r.comment, a.id, cp.fullName, s.name, r.createdAt) "
+            + "FROM Review r JOIN r.appointment a JOIN a.client c LEFT JOIN c.profile cp JOIN a.service s ";
+
     Optional<Review> findByAppointmentId(Long appointmentId);
 
     boolean existsByAppointmentId(Long appointmentId);
 
-    @Query("SELECT r FROM Review r JOIN r.appointment a JOIN a.worker w WHERE w.business.id = :businessId ORDER BY r.createdAt DESC")
-    List<Review> findByBusinessId(@Param("businessId") Long businessId);
+    @Query(VIEW_SELECT + "WHERE r.business.id = :businessId ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewView> findViewsByBusinessId(@Param("businessId") Long businessId);
+
+    /**
+     * First keyset slice of the reviews of a business, newest first
+     */
+    @Query(VIEW_SELECT + "WHERE r.business.id = :businessId ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewView> findViewSliceByBusinessId(@Param("businessId") Long businessId, Limit limit);
+
+    /**
+     * Keyset slice of the reviews of a business after the given (createdAt, id)
+     */
+    @Query(VIEW_SELECT + "WHERE r.business.id = :businessId "
+            + "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewView> findViewSliceByBusinessIdAfter(
+            @Param("businessId") Long businessId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * One page of the reviews of a business matching a web-style search, best match first.
+     * Matching, ranking and the total (window count) run on the GIN index in the inner query;
+     * names and the highlighted fragment are only computed for the rows of the page.
+     */
+    @Query(value = """
+            SELECT p.id AS "id", p.rating AS "rating", p.comment AS "comment",
+                   ts_headline('spanish', p.comment, websearch_to_tsquery('spanish', :query),
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') AS "highlight",
+                   p.rank AS "rank", p.appointment_id AS "appointmentId",
+                   cp.full_name AS "clientName", s.name AS "serviceName",
+                   p.created_at AS "createdAt", p.total AS "total"
+            FROM (
+                SELECT r.id, r.rating, r.comment, r.appointment_id, r.created_at,
+                       CAST(ts_rank(r.comment_tsv, q) AS double precision) AS rank,
+                       COUNT(*) OVER () AS total
+                FROM reviews r, websearch_to_tsquery('spanish', :query) q
+                WHERE r.business_id = :businessId
+                  AND r.comment_tsv @@ q
+                ORDER BY rank DESC, r.id DESC
+                LIMIT :limit OFFSET :offset
+            ) p
+            JOIN appointments a ON a.id = p.appointment_id
+            LEFT JOIN profiles cp ON cp.id = a.client_id
+            JOIN services s ON s.id = a.service_id
+            ORDER BY p.rank DESC, p.id DESC
+            """, nativeQuery = true)
+    List<ReviewSearchRow> searchByBusinessId(
+            @Param("businessId") Long businessId,
+            @Param("query") String query,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
 }
@@ -0,0 +1,30 @@
+package com.hairhub.backend.domain.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the review full-text search: the review, its rank, a highlighted
+ * fragment and the total number of matches (the same on every row).
+ */
+public interface ReviewSearchRow {
+
+    Long getId();
+
+    Integer getRating();
+
+    String getComment();
+
+    String getHighlight();
+
+    Double getRank();
+
+    Long getAppointmentId();
+
+    String getClientName();
+
+    String getServiceName();
+
+    LocalDateTime getCreatedAt();
+
+    Long getTotal();
+}
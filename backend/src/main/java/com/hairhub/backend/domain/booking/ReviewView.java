@@ -0,0 +1,16 @@
+package com.hairhub.backend.domain.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read model of a review with the names shown on the public feed.
+ */
+public record ReviewView(
+        Long id,
+        Integer rating,
+        String comment,
+        Long appointmentId,
+        String clientName,
+        String serviceName,
+        LocalDateTime createdAt) {
+}
@@ -17,6 +17,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "businesses")
+@SqlResultSetMapping(name = Business.WITH_DISTANCE, entities = @EntityResult(entityClass = Business.class),
+        columns = @ColumnResult(name = "distance_km", type = BigDecimal.class))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,6 +26,11 @@ import java.util.List;
 @Builder
 public class Business {
 
+    /**
+     * Result mapping of native queries returning b.* plus a distance_km column
+     */
+    public static final String WITH_DISTANCE = "Business.withDistance";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -54,17 +61,52 @@ public class Business {
     @Column(name = "cover_image_url", length = 500)
     private String coverImageUrl;
 
+    // WGS84 coordinates; both set or both null
+    private Double latitude;
+
+    private Double longitude;
+
     @Builder.Default
     @Column(nullable = false)
     private boolean active = true;
 
-    @Column(name = "average_rating", precision = 2, scale = 1)
+    // Rating columns are maintained by BusinessRepository.addRating only (never written on entity update)
+    @Column(name = "average_rating", precision = 2, scale = 1, updatable = false)
     private BigDecimal averageRating;
 
     @Builder.Default
-    @Column(name = "total_reviews")
+    @Column(name = "total_reviews", nullable = false, updatable = false)
     private Integer totalReviews = 0;
 
+    @Builder.Default
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Long ratingSum = 0L;
+
+    @Builder.Default
+    @Column(name = "rating_1_count", nullable = false, updatable = false)
+    private Integer rating1Count = 0;
+
+    @Builder.Default
+    @Column(name = "rating_2_count", nullable = false, updatable = false)
+    private Integer rating2Count = 0;
+
+    @Builder.Default
+    @Column(name = "rating_3_count", nullable = false, updatable = false)
+    private Integer rating3Count = 0;
+
+    @Builder.Default
+    @Column(name = "rating_4_count", nullable = false, updatable = false)
+    private Integer rating4Count = 0;
+
+    @Builder.Default
+    @Column(name = "rating_5_count", nullable = false, updatable = false)
+    private Integer rating5Count = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(name = "expired_appointment_policy", nullable = false, length = 20)
+    private ExpiredAppointmentPolicy expiredAppointmentPolicy = ExpiredAppointmentPolicy.COMPLETE_CONFIRMED;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,64 @@
+package com.hairhub.backend.domain.business;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Daily rollup of the appointments of one worker (V12).
+ * Maintained by a database trigger on appointments; read-only for the application.
+ */
+@Entity
+@Immutable
+@Table(name = "business_daily_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BusinessDailyStats {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    @Column(name = "confirmed_count", nullable = false)
+    private int confirmedCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private int cancelledCount;
+
+    @Column(name = "no_show_count", nullable = false)
+    private int noShowCount;
+
+    @Column(name = "booked_minutes", nullable = false)
+    private int bookedMinutes;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "business_id")
+        private Long businessId;
+
+        @Column(name = "stat_date")
+        private LocalDate date;
+
+        @Column(name = "worker_id")
+        private Long workerId;
+    }
+}
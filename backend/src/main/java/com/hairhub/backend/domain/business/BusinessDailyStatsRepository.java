@@ -0,0 +1,23 @@
+package com.hairhub.backend.domain.business;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BusinessDailyStatsRepository extends JpaRepository<BusinessDailyStats, BusinessDailyStats.Key> {
+
+    /**
+     * Rollup rows of a business in a date range (one per worker and day with activity)
+     */
+    @Query("SELECT s FROM BusinessDailyStats s WHERE s.id.businessId = :businessId "
+            + "AND s.id.date >= :from AND s.id.date <= :to ORDER BY s.id.date, s.id.workerId")
+    List<BusinessDailyStats> findByBusinessIdAndDayRange(
+            @Param("businessId") Long businessId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
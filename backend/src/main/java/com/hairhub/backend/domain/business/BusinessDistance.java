@@ -0,0 +1,10 @@
+package com.hairhub.backend.domain.business;
+
+import java.math.BigDecimal;
+
+/**
+ * Business found by a nearby search with its great-circle distance from the search point,
+ * rounded to {@link NearbySearch#DISTANCE_SCALE} decimals so it can be used as a cursor key.
+ */
+public record BusinessDistance(Business business, BigDecimal distanceKm) {
+}
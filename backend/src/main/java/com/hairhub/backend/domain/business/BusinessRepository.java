@@ -1,8 +1,7 @@
 package com.hairhub.backend.domain.business;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,38 +9,47 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface BusinessRepository extends JpaRepository<Business, Long> {
+public interface BusinessRepository extends JpaRepository<Business, Long>, BusinessSearchRepository {
 
     /**
-     * Find businesses by category with pagination
+     * Distinct business names closest to a misspelled query ("did you mean")
      */
-    Page<Business> findByCategoryAndActiveTrue(BusinessCategory category, Pageable pageable);
+    @Query(value = "SELECT b.name FROM businesses b WHERE b.active = TRUE "
+            + "AND f_unaccent(lower(:query)) <% f_unaccent(lower(b.name)) "
+            + "GROUP BY b.name "
+            + "ORDER BY MAX(word_similarity(f_unaccent(lower(:query)), f_unaccent(lower(b.name)))) DESC, b.name "
+            + "LIMIT :limit",
+            nativeQuery = true)
+    List<String> suggestNames(@Param("query") String query, @Param("limit") int limit);
 
     /**
-     * Find all active businesses with pagination
+     * Set the word similarity threshold of the fuzzy operators for the current transaction
      */
-    Page<Business> findByActiveTrue(Pageable pageable);
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', CAST(:threshold AS text), true)",
+            nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") double threshold);
 
     /**
-     * Search businesses by name (case-insensitive)
+     * Add one review rating to the counters of a business and derive the new average,
+     * atomically in a single statement (concurrent reviews never lose updates)
      */
-    @Query("SELECT b FROM Business b WHERE b.active = true AND LOWER(b.name) LIKE LOWER(CONCAT('%', :query, '%'))")
-    Page<Business> searchByName(@Param("query") String query, Pageable pageable);
-
-    /**
-     * Search businesses by name and category
-     */
-    @Query("SELECT b FROM Business b WHERE b.active = true AND b.category = :category AND LOWER(b.name) LIKE LOWER(CONCAT('%', :query, '%'))")
-    Page<Business> searchByNameAndCategory(@Param("query") String query, @Param("category") BusinessCategory category,
-            Pageable pageable);
+    @Modifying
+    @Query(value = """
+            UPDATE businesses
+            SET rating_sum = rating_sum + :rating,
+                total_reviews = total_reviews + 1,
+                rating_1_count = rating_1_count + CASE WHEN :rating = 1 THEN 1 ELSE 0 END,
+                rating_2_count = rating_2_count + CASE WHEN :rating = 2 THEN 1 ELSE 0 END,
+                rating_3_count = rating_3_count + CASE WHEN :rating = 3 THEN 1 ELSE 0 END,
+                rating_4_count = rating_4_count + CASE WHEN :rating = 4 THEN 1 ELSE 0 END,
+                rating_5_count = rating_5_count + CASE WHEN :rating = 5 THEN 1 ELSE 0 END,
+                average_rating = ROUND(CAST(rating_sum + :rating AS numeric) / (total_reviews + 1), 1)
+            WHERE id = :businessId
+            """, nativeQuery = true)
+    int addRating(@Param("businessId") Long businessId, @Param("rating") int rating);
 
     /**
      * Find businesses by owner
      */
     List<Business> findByOwnerId(Long ownerId);
-
-    /**
-     * Find businesses by city
-     */
-    Page<Business> findByCityAndActiveTrue(String city, Pageable pageable);
 }
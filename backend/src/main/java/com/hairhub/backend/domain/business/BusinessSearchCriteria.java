@@ -0,0 +1,16 @@
+package com.hairhub.backend.domain.business;
+
+import java.math.BigDecimal;
+
+/**
+ * Filters of a business search. Every filter except active is optional (null = not applied);
+ * at most one of textQuery (prefix tsquery) and fuzzyQuery (raw name) is set.
+ */
+public record BusinessSearchCriteria(
+        String textQuery,
+        String fuzzyQuery,
+        BusinessCategory category,
+        String city,
+        BigDecimal minRating,
+        boolean active) {
+}
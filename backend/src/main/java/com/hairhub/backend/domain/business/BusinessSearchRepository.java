@@ -0,0 +1,31 @@
+package com.hairhub.backend.domain.business;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Business search composed from the filters actually given, so each combination
+ * is a single statement that can use the matching index.
+ */
+public interface BusinessSearchRepository {
+
+    /**
+     * One page of the search: most relevant first for text queries, closest name first
+     * for fuzzy queries, otherwise best rated first
+     */
+    Page<Business> search(BusinessSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Keyset slice of the search, best rated first, after the given (rating, id) if not null.
+     * Always ordered by rating, so callers must not pass a text or fuzzy query.
+     */
+    List<Business> searchSlice(BusinessSearchCriteria criteria, BigDecimal afterRating, Long afterId, int limit);
+
+    /**
+     * Businesses within the radius of the point, nearest first, after the cursor of the search if set
+     */
+    List<BusinessDistance> searchNearby(BusinessSearchCriteria criteria, NearbySearch nearby, int limit);
+}
@@ -0,0 +1,159 @@
+package com.hairhub.backend.domain.business;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native implementation of {@link BusinessSearchRepository}. Only the given filters are
+ * rendered and active is written as a literal, so PostgreSQL can match the partial indexes:
+ * idx_businesses_active_city_category_rating (city, category, rating),
+ * idx_businesses_active_category_rating (category, rating),
+ * idx_businesses_active_rating_id (rating), idx_businesses_search_vector (text),
+ * idx_businesses_name_trgm (fuzzy) and idx_businesses_location (bounding box).
+ */
+class BusinessSearchRepositoryImpl implements BusinessSearchRepository {
+
+    /**
+     * Rating expression of the indexes; unrated businesses sort as 0
+     */
+    private static final String RATING = "COALESCE(b.average_rating, 0)";
+
+    private static final String RATING_ORDER = " ORDER BY " + RATING + " DESC, b.id DESC";
+
+    private static final String TEXT_ORDER = " ORDER BY ts_rank(b.search_vector, to_tsquery('spanish', :query)) DESC, "
+            + RATING + " DESC, b.id DESC";
+
+    private static final String FUZZY_ORDER = " ORDER BY word_similarity(f_unaccent(lower(:query)), "
+            + "f_unaccent(lower(b.name))) DESC, " + RATING + " DESC, b.id DESC";
+
+    /**
+     * Great-circle distance in km from (:lat, :lng) to the business, rounded to a fixed
+     * numeric scale so the cursor compares exact values instead of recomputed doubles
+     */
+    private static final String HAVERSINE_KM = "ROUND(CAST(2 * " + NearbySearch.EARTH_RADIUS_KM + " * asin(LEAST(1, sqrt("
+            + "power(sin(radians(b.latitude - :lat) / 2), 2) "
+            + "+ cos(radians(:lat)) * cos(radians(b.latitude)) * power(sin(radians(b.longitude - :lng) / 2), 2)))) "
+            + "AS numeric), " + NearbySearch.DISTANCE_SCALE + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Business> search(BusinessSearchCriteria criteria, Pageable pageable) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(criteria, params);
+
+        String order = criteria.textQuery() != null ? TEXT_ORDER
+                : criteria.fuzzyQuery() != null ? FUZZY_ORDER
+                : RATING_ORDER;
+
+        Query query = entityManager.createNativeQuery("SELECT b.* FROM businesses b" + where + order, Business.class);
+        params.forEach(query::setParameter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        @SuppressWarnings("unchecked")
+        List<Business> content = query.getResultList();
+
+        // The count only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Query count = entityManager.createNativeQuery("SELECT COUNT(*) FROM businesses b" + where);
+            params.forEach(count::setParameter);
+            return ((Number) count.getSingleResult()).longValue();
+        });
+    }
+
+    @Override
+    public List<Business> searchSlice(BusinessSearchCriteria criteria, BigDecimal afterRating, Long afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(criteria, params);
+
+        if (afterId != null) {
+            where += " AND " + RATING + " <= :rating AND (" + RATING + " < :rating OR b.id < :id)";
+            params.put("rating", afterRating);
+            params.put("id", afterId);
+        }
+
+        Query query = entityManager.createNativeQuery("SELECT b.* FROM businesses b" + where + RATING_ORDER, Business.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+
+        @SuppressWarnings("unchecked")
+        List<Business> rows = query.getResultList();
+        return rows;
+    }
+
+    @Override
+    public List<BusinessDistance> searchNearby(BusinessSearchCriteria criteria, NearbySearch nearby, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(criteria, params)
+                + " AND b.latitude IS NOT NULL AND b.longitude IS NOT NULL"
+                + " AND point(b.longitude, b.latitude) <@ box(point(:minLng, :minLat), point(:maxLng, :maxLat))";
+
+        double latDelta = nearby.latitudeDelta();
+        double lngDelta = nearby.longitudeDelta();
+        params.put("lat", nearby.latitude());
+        params.put("lng", nearby.longitude());
+        params.put("minLat", Math.max(nearby.latitude() - latDelta, -90));
+        params.put("maxLat", Math.min(nearby.latitude() + latDelta, 90));
+        // A box crossing the antimeridian is clipped at +-180
+        params.put("minLng", Math.max(nearby.longitude() - lngDelta, -180));
+        params.put("maxLng", Math.min(nearby.longitude() + lngDelta, 180));
+        params.put("radius", nearby.radiusKm());
+
+        String after = "";
+        if (nearby.afterId() != null) {
+            after = " AND (n.distance_km > :afterDistance OR (n.distance_km = :afterDistance AND n.id > :afterId))";
+            params.put("afterDistance", nearby.afterDistanceKm());
+            params.put("afterId", nearby.afterId());
+        }
+
+        Query query = entityManager.createNativeQuery("SELECT n.* FROM (SELECT b.*, " + HAVERSINE_KM + " AS distance_km "
+                + "FROM businesses b" + where + ") n WHERE n.distance_km <= :radius" + after
+                + " ORDER BY n.distance_km, n.id", Business.WITH_DISTANCE);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> new BusinessDistance((Business) row[0], (BigDecimal) row[1]))
+                .toList();
+    }
+
+    private static String where(BusinessSearchCriteria criteria, Map<String, Object> params) {
+        List<String> filters = new ArrayList<>();
+        filters.add(criteria.active() ? "b.active = TRUE" : "b.active = FALSE");
+
+        if (criteria.city() != null) {
+            filters.add("lower(b.city) = lower(:city)");
+            params.put("city", criteria.city());
+        }
+        if (criteria.category() != null) {
+            filters.add("b.category = :category");
+            params.put("category", criteria.category().name());
+        }
+        if (criteria.minRating() != null) {
+            filters.add(RATING + " >= :minRating");
+            params.put("minRating", criteria.minRating());
+        }
+        if (criteria.textQuery() != null) {
+            filters.add("b.search_vector @@ to_tsquery('spanish', :query)");
+            params.put("query", criteria.textQuery());
+        } else if (criteria.fuzzyQuery() != null) {
+            filters.add("f_unaccent(lower(:query)) <% f_unaccent(lower(b.name))");
+            params.put("query", criteria.fuzzyQuery());
+        }
+        return " WHERE " + String.join(" AND ", filters);
+    }
+}
@@ -0,0 +1,16 @@
+package com.hairhub.backend.domain.business;
+
+/**
+ * What happens to appointments of a business that ended without being finalized.
+ * Applied by the background sweeper.
+ */
+public enum ExpiredAppointmentPolicy {
+    /** Confirmed appointments become COMPLETED, unconfirmed ones NO_SHOW */
+    COMPLETE_CONFIRMED,
+    /** Every open appointment becomes COMPLETED */
+    COMPLETE_ALL,
+    /** Every open appointment becomes NO_SHOW */
+    NO_SHOW_ALL,
+    /** Leave them for the owner to finalize */
+    MANUAL
+}
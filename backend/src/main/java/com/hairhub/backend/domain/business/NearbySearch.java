@@ -0,0 +1,45 @@
+package com.hairhub.backend.domain.business;
+
+import java.math.BigDecimal;
+
+/**
+ * Point and radius of a nearby search, with the (distance, id) of the last row
+ * of the previous page when paging (both null for the first page).
+ */
+public record NearbySearch(
+        double latitude,
+        double longitude,
+        double radiusKm,
+        BigDecimal afterDistanceKm,
+        Long afterId) {
+
+    /**
+     * Mean Earth radius (IUGG) used by the haversine distance
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * Decimals of the distance returned and compared by the search (millimetres)
+     */
+    public static final int DISTANCE_SCALE = 6;
+
+    /**
+     * Half height of the bounding box in degrees
+     */
+    public double latitudeDelta() {
+        return Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+    }
+
+    /**
+     * Half width of the bounding box in degrees; the whole range near the poles.
+     * Uses the widest longitude span reached within the radius, not the one at the center latitude.
+     */
+    public double longitudeDelta() {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double sin = Math.sin(angular) / Math.cos(Math.toRadians(latitude));
+        if (Math.abs(latitude) + latitudeDelta() >= 90 || sin >= 1) {
+            return 180;
+        }
+        return Math.toDegrees(Math.asin(sin));
+    }
+}
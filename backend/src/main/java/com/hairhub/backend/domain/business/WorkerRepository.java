@@ -1,10 +1,13 @@
 package com.hairhub.backend.domain.business;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +22,32 @@ public interface WorkerRepository extends JpaRepository<Worker, Long> {
 
     @Query("SELECT w FROM Worker w JOIN FETCH w.user u JOIN FETCH u.profile WHERE w.business.id = :businessId AND w.active = true")
     List<Worker> findByBusinessIdWithProfile(@Param("businessId") Long businessId);
+
+    /**
+     * Workers by id whether active or not, e.g. to name the rows of past statistics
+     */
+    @Query("SELECT w FROM Worker w JOIN FETCH w.user u LEFT JOIN FETCH u.profile WHERE w.id IN :ids")
+    List<Worker> findByIdInWithProfile(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Active workers of a business ranked by Bayesian average:
+     * (ratingSum + priorSum) / (ratingCount + priorWeight), where priorSum = priorWeight * prior mean
+     */
+    @Query("SELECT w FROM Worker w JOIN FETCH w.user u LEFT JOIN FETCH u.profile "
+            + "WHERE w.business.id = :businessId AND w.active = true "
+            + "ORDER BY (CAST(w.ratingSum AS double) + :priorSum) / (CAST(w.ratingCount AS double) + :priorWeight) DESC, "
+            + "w.ratingCount DESC, w.id ASC")
+    List<Worker> findLeaderboard(
+            @Param("businessId") Long businessId,
+            @Param("priorSum") double priorSum,
+            @Param("priorWeight") double priorWeight,
+            Limit limit);
+
+    /**
+     * Add one review rating to the counters of a worker
+     */
+    @Modifying
+    @Query(value = "UPDATE workers SET rating_sum = rating_sum + :rating, rating_count = rating_count + 1 "
+            + "WHERE id = :workerId", nativeQuery = true)
+    int addRating(@Param("workerId") Long workerId, @Param("rating") int rating);
 }
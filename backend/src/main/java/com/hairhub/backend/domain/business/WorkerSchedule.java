@@ -7,12 +7,10 @@ import java.time.LocalTime;
 
 /**
  * Worker's weekly schedule.
- * Defines availability for each day of the week.
+ * Each row is one shift; a day may have several (e.g. split shifts around lunch).
  */
 @Entity
-@Table(name = "worker_schedules", uniqueConstraints = {
-        @UniqueConstraint(columnNames = { "worker_id", "day_of_week" })
-})
+@Table(name = "worker_schedules")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,62 @@
+package com.hairhub.backend.domain.business;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Dated exception to a worker's weekly schedule.
+ * Unavailable exceptions remove hours (the whole day when no times are given);
+ * available exceptions replace the weekly hours of the dates they cover.
+ */
+@Entity
+@Table(name = "worker_schedule_exceptions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkerScheduleException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "worker_id", nullable = false)
+    private Worker worker;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    /**
+     * Null together with endTime for a whole-day exception
+     */
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    @Builder.Default
+    @Column(name = "is_available", nullable = false)
+    private boolean available = false;
+
+    @Column(length = 255)
+    private String reason;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isWholeDay() {
+        return startTime == null;
+    }
+}
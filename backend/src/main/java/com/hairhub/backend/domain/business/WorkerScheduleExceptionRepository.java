@@ -0,0 +1,24 @@
+package com.hairhub.backend.domain.business;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkerScheduleExceptionRepository extends JpaRepository<WorkerScheduleException, Long> {
+
+    List<WorkerScheduleException> findByWorkerIdAndEndDateGreaterThanEqualOrderByStartDateAsc(
+            Long workerId, LocalDate from);
+
+    List<WorkerScheduleException> findByWorkerIdInAndEndDateGreaterThanEqual(
+            Collection<Long> workerIds, LocalDate from);
+
+    List<WorkerScheduleException> findByWorkerIdInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+            Collection<Long> workerIds, LocalDate to, LocalDate from);
+
+    Optional<WorkerScheduleException> findByIdAndWorkerId(Long id, Long workerId);
+}
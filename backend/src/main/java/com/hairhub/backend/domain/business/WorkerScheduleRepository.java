@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +16,8 @@ public interface WorkerScheduleRepository extends JpaRepository<WorkerSchedule,
 
     List<WorkerSchedule> findByWorkerIdAndAvailableTrue(Long workerId);
 
+    List<WorkerSchedule> findByWorkerIdInAndAvailableTrue(Collection<Long> workerIds);
+
     @Modifying
     @Query("DELETE FROM WorkerSchedule ws WHERE ws.worker.id = :workerId")
     void deleteByWorkerId(@Param("workerId") Long workerId);
@@ -1,5 +1,6 @@
 package com.hairhub.backend.domain.user;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,18 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     @Query("SELECT f FROM Favorite f JOIN FETCH f.business b WHERE f.user.id = :userId ORDER BY f.createdAt DESC")
     Page<Favorite> findByUserIdWithBusiness(@Param("userId") Long userId, Pageable pageable);
 
+    @Query("SELECT f FROM Favorite f JOIN FETCH f.business WHERE f.user.id = :userId ORDER BY f.createdAt DESC, f.id DESC")
+    List<Favorite> findSliceByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT f FROM Favorite f JOIN FETCH f.business WHERE f.user.id = :userId "
+            + "AND f.createdAt <= :createdAt AND (f.createdAt < :createdAt OR f.id < :id) "
+            + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Favorite> findSliceByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
     Optional<Favorite> findByUserIdAndBusinessId(Long userId, Long businessId);
 
     boolean existsByUserIdAndBusinessId(Long userId, Long businessId);
@@ -0,0 +1,16 @@
+-- =====================================================
+-- Expired Appointment Sweeper
+-- Version: V10
+-- Description: Per-business policy for appointments that ended
+--              without being finalized, and the index the
+--              background sweeper uses to find them
+-- =====================================================
+
+ALTER TABLE businesses
+    ADD COLUMN expired_appointment_policy VARCHAR(20) NOT NULL DEFAULT 'COMPLETE_CONFIRMED'
+        CHECK (expired_appointment_policy IN ('COMPLETE_CONFIRMED', 'COMPLETE_ALL', 'NO_SHOW_ALL', 'MANUAL'));
+
+-- Only open appointments are indexed, so the index stays small once the backlog is swept
+CREATE INDEX idx_appointments_open_end_time
+    ON appointments(end_time)
+    WHERE status IN ('PENDING', 'CONFIRMED');
@@ -0,0 +1,248 @@
+-- =====================================================
+-- Monthly Partitioning of Appointments
+-- Version: V11
+-- Description: Turns appointments into a table range-partitioned
+--              by month on start_time, with functions to create
+--              future partitions, add BRIN indexes to old ones and
+--              detach partitions past the retention period
+-- =====================================================
+
+-- A foreign key cannot reference a partitioned table through id alone;
+-- the cascade from appointments to reviews is kept with a trigger below
+ALTER TABLE reviews DROP CONSTRAINT IF EXISTS reviews_appointment_id_fkey;
+
+-- Move the old table aside, keeping its id sequence
+ALTER TABLE appointments RENAME TO appointments_unpartitioned;
+ALTER INDEX appointments_pkey RENAME TO appointments_unpartitioned_pkey;
+ALTER SEQUENCE appointments_id_seq OWNED BY NONE;
+
+CREATE TABLE appointments (
+    id BIGINT NOT NULL DEFAULT nextval('appointments_id_seq'),
+    client_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    worker_id BIGINT NOT NULL REFERENCES workers(id) ON DELETE CASCADE,
+    service_id BIGINT NOT NULL REFERENCES services(id) ON DELETE CASCADE,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN (
+        'PENDING', 'CONFIRMED', 'COMPLETED', 'CANCELLED', 'NO_SHOW'
+    )),
+    client_notes VARCHAR(500),
+    cancellation_reason VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CHECK (end_time > start_time),
+    -- No appointment crosses a month boundary, so overlapping appointments always share a
+    -- partition and the per-partition exclusion constraints are as strict as the old global one
+    CONSTRAINT appointments_within_month
+        CHECK (date_trunc('month', start_time) = date_trunc('month', end_time - INTERVAL '1 microsecond')),
+    PRIMARY KEY (id, start_time)
+) PARTITION BY RANGE (start_time);
+
+-- Catches bookings beyond the created partitions until their month is created
+CREATE TABLE appointments_default PARTITION OF appointments DEFAULT;
+
+ALTER TABLE appointments_default
+    ADD CONSTRAINT appointments_no_overlap_default
+    EXCLUDE USING gist (
+        worker_id WITH =,
+        tsrange(start_time, end_time) WITH &&
+    ) WHERE (status NOT IN ('CANCELLED', 'NO_SHOW'));
+
+-- =====================================================
+-- PARTITION MAINTENANCE
+-- =====================================================
+
+-- appointments_yYYYYmMM
+CREATE OR REPLACE FUNCTION appointments_partition_suffix(month_start DATE)
+RETURNS TEXT AS $$
+    SELECT to_char(month_start, '"y"YYYY"m"MM');
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Create the partition of one month. Rows already parked in the default partition for
+-- that month are moved into it before it is attached. Returns FALSE if it already exists.
+CREATE OR REPLACE FUNCTION appointments_create_partition(month_start DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    from_ts TIMESTAMP := date_trunc('month', month_start);
+    to_ts TIMESTAMP := date_trunc('month', month_start) + INTERVAL '1 month';
+    suffix TEXT := appointments_partition_suffix(month_start);
+    part TEXT := 'appointments_' || suffix;
+BEGIN
+    IF to_regclass(part) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE appointments INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', part);
+
+    -- The rows only change table: keep delete_appointment_review from dropping their reviews
+    PERFORM set_config('hairhub.moving_appointments', 'on', true);
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM appointments_default WHERE start_time >= %L AND start_time < %L RETURNING *) '
+        'INSERT INTO %I SELECT * FROM moved', from_ts, to_ts, part);
+    PERFORM set_config('hairhub.moving_appointments', 'off', true);
+
+    EXECUTE format(
+        'ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist '
+        '(worker_id WITH =, tsrange(start_time, end_time) WITH &&) '
+        'WHERE (status NOT IN (''CANCELLED'', ''NO_SHOW''))',
+        part, 'appointments_no_overlap_' || suffix);
+
+    -- A matching CHECK lets ATTACH skip scanning the new partition
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (start_time >= %L AND start_time < %L)',
+        part, part || '_bounds', from_ts, to_ts);
+    EXECUTE format('ALTER TABLE appointments ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        part, from_ts, to_ts);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', part, part || '_bounds');
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Create the partitions of the current month and the next months_ahead months
+CREATE OR REPLACE FUNCTION appointments_ensure_partitions(months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    created INTEGER := 0;
+    month_start DATE;
+BEGIN
+    -- Serializes concurrent runs from several application instances
+    PERFORM pg_advisory_xact_lock(hashtext('appointments_partitions'));
+
+    FOR month_start IN
+        SELECT generate_series(date_trunc('month', CURRENT_DATE),
+                               date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead),
+                               INTERVAL '1 month')::date
+    LOOP
+        IF appointments_create_partition(month_start) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Monthly partitions attached to appointments, with the first day of their month
+CREATE OR REPLACE VIEW appointments_partitions AS
+SELECT c.relname AS partition_name,
+       to_date(substr(c.relname, length('appointments_') + 1), '"y"YYYY"m"MM') AS month_start
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'appointments'::regclass
+  AND c.relname ~ '^appointments_y[0-9]{4}m[0-9]{2}$';
+
+-- Add a BRIN index on start_time to every partition that ended before the cutoff.
+-- Old months are append-only history, so the BRIN stays tiny and precise for range scans.
+CREATE OR REPLACE FUNCTION appointments_brin_partitions_before(cutoff DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    created INTEGER := 0;
+    part RECORD;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('appointments_partitions'));
+
+    FOR part IN
+        SELECT partition_name FROM appointments_partitions
+        WHERE month_start + INTERVAL '1 month' <= cutoff
+        ORDER BY month_start
+    LOOP
+        IF to_regclass(part.partition_name || '_start_brin') IS NULL THEN
+            EXECUTE format('CREATE INDEX %I ON %I USING brin (start_time)',
+                part.partition_name || '_start_brin', part.partition_name);
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detach every partition that ended before the cutoff. Detached tables are kept as
+-- standalone tables for archiving; dropping them is left to the operator.
+CREATE OR REPLACE FUNCTION appointments_detach_partitions_before(cutoff DATE)
+RETURNS SETOF TEXT AS $$
+DECLARE
+    part RECORD;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('appointments_partitions'));
+
+    FOR part IN
+        SELECT partition_name FROM appointments_partitions
+        WHERE month_start + INTERVAL '1 month' <= cutoff
+        ORDER BY month_start
+    LOOP
+        EXECUTE format('ALTER TABLE appointments DETACH PARTITION %I', part.partition_name);
+        RETURN NEXT part.partition_name;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- DATA
+-- =====================================================
+
+-- Partitions for the existing history and the next year
+DO $$
+DECLARE
+    first_month DATE;
+    month_start DATE;
+BEGIN
+    SELECT date_trunc('month', LEAST(MIN(start_time), CURRENT_DATE))::date
+    INTO first_month
+    FROM appointments_unpartitioned;
+
+    FOR month_start IN
+        SELECT generate_series(COALESCE(first_month, date_trunc('month', CURRENT_DATE)::date),
+                               date_trunc('month', CURRENT_DATE) + INTERVAL '12 months',
+                               INTERVAL '1 month')::date
+    LOOP
+        PERFORM appointments_create_partition(month_start);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO appointments (id, client_id, worker_id, service_id, start_time, end_time, status,
+                          client_notes, cancellation_reason, created_at, updated_at)
+SELECT id, client_id, worker_id, service_id, start_time, end_time, status,
+       client_notes, cancellation_reason, created_at, updated_at
+FROM appointments_unpartitioned;
+
+DROP TABLE appointments_unpartitioned;
+
+ALTER SEQUENCE appointments_id_seq OWNED BY appointments.id;
+
+-- =====================================================
+-- INDEXES AND TRIGGERS (created on the parent, cloned to every partition)
+-- =====================================================
+
+CREATE INDEX idx_appointments_client ON appointments(client_id);
+CREATE INDEX idx_appointments_worker ON appointments(worker_id);
+CREATE INDEX idx_appointments_time_range ON appointments(worker_id, start_time, end_time);
+CREATE INDEX idx_appointments_status ON appointments(status);
+CREATE INDEX idx_appointments_client_start_id ON appointments(client_id, start_time DESC, id DESC);
+CREATE INDEX idx_appointments_open_end_time
+    ON appointments(end_time)
+    WHERE status IN ('PENDING', 'CONFIRMED');
+
+CREATE TRIGGER update_appointments_updated_at
+    BEFORE UPDATE ON appointments
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+-- Replaces ON DELETE CASCADE of the dropped reviews foreign key. Skipped while
+-- appointments_create_partition moves rows out of the default partition.
+CREATE OR REPLACE FUNCTION delete_appointment_review()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('hairhub.moving_appointments', true) = 'on' THEN
+        RETURN OLD;
+    END IF;
+    DELETE FROM reviews WHERE appointment_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER delete_appointment_review
+    AFTER DELETE ON appointments
+    FOR EACH ROW
+    EXECUTE FUNCTION delete_appointment_review();
+
+ANALYZE appointments;
@@ -0,0 +1,156 @@
+-- =====================================================
+-- Business Daily Stats
+-- Version: V12
+-- Description: Per business, worker and day rollup of appointments
+--              by status, booked minutes and revenue, maintained by
+--              a trigger in the same transaction as every change
+-- =====================================================
+
+CREATE TABLE business_daily_stats (
+    business_id BIGINT NOT NULL REFERENCES businesses(id) ON DELETE CASCADE,
+    stat_date DATE NOT NULL,
+    worker_id BIGINT NOT NULL REFERENCES workers(id) ON DELETE CASCADE,
+    pending_count INTEGER NOT NULL DEFAULT 0,
+    confirmed_count INTEGER NOT NULL DEFAULT 0,
+    completed_count INTEGER NOT NULL DEFAULT 0,
+    cancelled_count INTEGER NOT NULL DEFAULT 0,
+    no_show_count INTEGER NOT NULL DEFAULT 0,
+    -- Minutes of PENDING, CONFIRMED and COMPLETED appointments
+    booked_minutes INTEGER NOT NULL DEFAULT 0,
+    -- Price of the service of COMPLETED appointments
+    revenue DECIMAL(12,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (business_id, stat_date, worker_id)
+);
+
+-- Add (sign = 1) or remove (sign = -1) one appointment from its day
+CREATE OR REPLACE FUNCTION apply_business_daily_stats(
+    p_worker_id BIGINT,
+    p_service_id BIGINT,
+    p_start_time TIMESTAMP,
+    p_end_time TIMESTAMP,
+    p_status VARCHAR,
+    p_sign INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO business_daily_stats AS s (business_id, stat_date, worker_id,
+        pending_count, confirmed_count, completed_count, cancelled_count, no_show_count,
+        booked_minutes, revenue)
+    SELECT w.business_id, p_start_time::date, p_worker_id,
+           p_sign * (p_status = 'PENDING')::int,
+           p_sign * (p_status = 'CONFIRMED')::int,
+           p_sign * (p_status = 'COMPLETED')::int,
+           p_sign * (p_status = 'CANCELLED')::int,
+           p_sign * (p_status = 'NO_SHOW')::int,
+           CASE WHEN p_status IN ('PENDING', 'CONFIRMED', 'COMPLETED')
+                THEN p_sign * (EXTRACT(EPOCH FROM p_end_time - p_start_time) / 60)::int
+                ELSE 0 END,
+           CASE WHEN p_status = 'COMPLETED' THEN p_sign * sv.price ELSE 0 END
+    FROM workers w
+    JOIN services sv ON sv.id = p_service_id
+    WHERE w.id = p_worker_id
+    ON CONFLICT (business_id, stat_date, worker_id) DO UPDATE SET
+        pending_count = s.pending_count + EXCLUDED.pending_count,
+        confirmed_count = s.confirmed_count + EXCLUDED.confirmed_count,
+        completed_count = s.completed_count + EXCLUDED.completed_count,
+        cancelled_count = s.cancelled_count + EXCLUDED.cancelled_count,
+        no_show_count = s.no_show_count + EXCLUDED.no_show_count,
+        booked_minutes = s.booked_minutes + EXCLUDED.booked_minutes,
+        revenue = s.revenue + EXCLUDED.revenue;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION track_business_daily_stats()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM apply_business_daily_stats(OLD.worker_id, OLD.service_id,
+            OLD.start_time, OLD.end_time, OLD.status, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM apply_business_daily_stats(NEW.worker_id, NEW.service_id,
+            NEW.start_time, NEW.end_time, NEW.status, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER track_business_daily_stats_insert_delete
+    AFTER INSERT OR DELETE ON appointments
+    FOR EACH ROW
+    EXECUTE FUNCTION track_business_daily_stats();
+
+-- Notes and timestamps do not affect the rollup
+CREATE TRIGGER track_business_daily_stats_update
+    AFTER UPDATE ON appointments
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status
+          OR OLD.start_time IS DISTINCT FROM NEW.start_time
+          OR OLD.end_time IS DISTINCT FROM NEW.end_time
+          OR OLD.worker_id IS DISTINCT FROM NEW.worker_id
+          OR OLD.service_id IS DISTINCT FROM NEW.service_id)
+    EXECUTE FUNCTION track_business_daily_stats();
+
+-- Partition maintenance moves rows out of appointments_default (V11). The DELETE fires the
+-- rollup trigger cloned onto the default partition (-1), but the INSERT goes into a table
+-- that is not attached yet, so no +1 follows and far-ahead bookings would be lost from the
+-- rollup. Redefined here to add the moved rows back once they are in the new table.
+CREATE OR REPLACE FUNCTION appointments_create_partition(month_start DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    from_ts TIMESTAMP := date_trunc('month', month_start);
+    to_ts TIMESTAMP := date_trunc('month', month_start) + INTERVAL '1 month';
+    suffix TEXT := appointments_partition_suffix(month_start);
+    part TEXT := 'appointments_' || suffix;
+BEGIN
+    IF to_regclass(part) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE appointments INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', part);
+
+    -- The rows only change table: keep delete_appointment_review from dropping their reviews
+    PERFORM set_config('hairhub.moving_appointments', 'on', true);
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM appointments_default WHERE start_time >= %L AND start_time < %L RETURNING *) '
+        'INSERT INTO %I SELECT * FROM moved', from_ts, to_ts, part);
+    PERFORM set_config('hairhub.moving_appointments', 'off', true);
+
+    -- The new table holds exactly the moved rows: undo the -1 of the DELETE above
+    EXECUTE format(
+        'SELECT apply_business_daily_stats(worker_id, service_id, start_time, end_time, status, 1) FROM %I',
+        part);
+
+    EXECUTE format(
+        'ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist '
+        '(worker_id WITH =, tsrange(start_time, end_time) WITH &&) '
+        'WHERE (status NOT IN (''CANCELLED'', ''NO_SHOW''))',
+        part, 'appointments_no_overlap_' || suffix);
+
+    -- A matching CHECK lets ATTACH skip scanning the new partition
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (start_time >= %L AND start_time < %L)',
+        part, part || '_bounds', from_ts, to_ts);
+    EXECUTE format('ALTER TABLE appointments ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        part, from_ts, to_ts);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', part, part || '_bounds');
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill from the existing history
+INSERT INTO business_daily_stats (business_id, stat_date, worker_id,
+    pending_count, confirmed_count, completed_count, cancelled_count, no_show_count,
+    booked_minutes, revenue)
+SELECT w.business_id, a.start_time::date, a.worker_id,
+       COUNT(*) FILTER (WHERE a.status = 'PENDING'),
+       COUNT(*) FILTER (WHERE a.status = 'CONFIRMED'),
+       COUNT(*) FILTER (WHERE a.status = 'COMPLETED'),
+       COUNT(*) FILTER (WHERE a.status = 'CANCELLED'),
+       COUNT(*) FILTER (WHERE a.status = 'NO_SHOW'),
+       COALESCE(SUM((EXTRACT(EPOCH FROM a.end_time - a.start_time) / 60)::int)
+           FILTER (WHERE a.status IN ('PENDING', 'CONFIRMED', 'COMPLETED')), 0),
+       COALESCE(SUM(sv.price) FILTER (WHERE a.status = 'COMPLETED'), 0)
+FROM appointments a
+JOIN workers w ON w.id = a.worker_id
+JOIN services sv ON sv.id = a.service_id
+GROUP BY w.business_id, a.start_time::date, a.worker_id;
@@ -0,0 +1,45 @@
+-- =====================================================
+-- Business Rating Counters
+-- Version: V13
+-- Description: Running sum and per-star counts of review ratings,
+--              so a new review updates the business with a single
+--              atomic UPDATE instead of re-reading every review.
+--              total_reviews is the rating count.
+-- =====================================================
+
+ALTER TABLE businesses
+    ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_1_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_2_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_3_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_4_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_5_count INTEGER NOT NULL DEFAULT 0;
+
+-- Recompute every business from its actual reviews (businesses without reviews are reset)
+UPDATE businesses b
+SET rating_sum = COALESCE(s.rating_sum, 0),
+    total_reviews = COALESCE(s.rating_count, 0),
+    rating_1_count = COALESCE(s.rating_1_count, 0),
+    rating_2_count = COALESCE(s.rating_2_count, 0),
+    rating_3_count = COALESCE(s.rating_3_count, 0),
+    rating_4_count = COALESCE(s.rating_4_count, 0),
+    rating_5_count = COALESCE(s.rating_5_count, 0),
+    average_rating = ROUND(s.rating_sum::numeric / NULLIF(s.rating_count, 0), 1)
+FROM businesses bb
+LEFT JOIN (
+    SELECT w.business_id,
+           SUM(r.rating) AS rating_sum,
+           COUNT(*) AS rating_count,
+           COUNT(*) FILTER (WHERE r.rating = 1) AS rating_1_count,
+           COUNT(*) FILTER (WHERE r.rating = 2) AS rating_2_count,
+           COUNT(*) FILTER (WHERE r.rating = 3) AS rating_3_count,
+           COUNT(*) FILTER (WHERE r.rating = 4) AS rating_4_count,
+           COUNT(*) FILTER (WHERE r.rating = 5) AS rating_5_count
+    FROM reviews r
+    JOIN appointments a ON a.id = r.appointment_id
+    JOIN workers w ON w.id = a.worker_id
+    GROUP BY w.business_id
+) s ON s.business_id = bb.id
+WHERE b.id = bb.id;
+
+ALTER TABLE businesses ALTER COLUMN total_reviews SET NOT NULL;
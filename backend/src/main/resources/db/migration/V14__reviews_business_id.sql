@@ -0,0 +1,19 @@
+-- =====================================================
+-- Review Feed Index
+-- Version: V14
+-- Description: Stores the business on each review so the public
+--              review feed of a business is one index range scan
+--              in (created_at, id) order
+-- =====================================================
+
+ALTER TABLE reviews ADD COLUMN business_id BIGINT REFERENCES businesses(id) ON DELETE CASCADE;
+
+UPDATE reviews r
+SET business_id = w.business_id
+FROM appointments a
+JOIN workers w ON w.id = a.worker_id
+WHERE a.id = r.appointment_id;
+
+ALTER TABLE reviews ALTER COLUMN business_id SET NOT NULL;
+
+CREATE INDEX idx_reviews_business_created_id ON reviews(business_id, created_at DESC, id DESC);
@@ -0,0 +1,23 @@
+-- =====================================================
+-- Worker Rating Counters
+-- Version: V15
+-- Description: Running sum and count of review ratings per worker,
+--              bumped with the business counters when a review is
+--              created, so worker cards and the leaderboard never
+--              aggregate reviews
+-- =====================================================
+
+ALTER TABLE workers
+    ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE workers w
+SET rating_sum = s.rating_sum,
+    rating_count = s.rating_count
+FROM (
+    SELECT a.worker_id, SUM(r.rating) AS rating_sum, COUNT(*) AS rating_count
+    FROM reviews r
+    JOIN appointments a ON a.id = r.appointment_id
+    GROUP BY a.worker_id
+) s
+WHERE w.id = s.worker_id;
@@ -0,0 +1,13 @@
+-- =====================================================
+-- Review Full-Text Search
+-- Version: V16
+-- Description: Spanish tsvector of the review comment, kept by
+--              PostgreSQL as a stored generated column, and a GIN
+--              index so owners can search their reviews by words
+-- =====================================================
+
+ALTER TABLE reviews
+    ADD COLUMN comment_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('spanish', COALESCE(comment, ''))) STORED;
+
+CREATE INDEX idx_reviews_comment_tsv ON reviews USING GIN (comment_tsv);
@@ -0,0 +1,61 @@
+-- =====================================================
+-- Business Search Vector
+-- Version: V17
+-- Description: Weighted Spanish tsvector over the business name (A),
+--              the names of its active services (B), city (C) and
+--              description (D), kept current by triggers on businesses
+--              and services. Replaces the name-only GIN index, which
+--              the LIKE based search never used.
+-- =====================================================
+
+ALTER TABLE businesses ADD COLUMN search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION business_search_vector(
+    p_business_id BIGINT, p_name TEXT, p_description TEXT, p_city TEXT)
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('spanish', COALESCE(p_name, '')), 'A')
+        || setweight(to_tsvector('spanish', COALESCE((
+               SELECT string_agg(s.name, ' ')
+               FROM services s
+               WHERE s.business_id = p_business_id AND s.active = TRUE), '')), 'B')
+        || setweight(to_tsvector('spanish', COALESCE(p_city, '')), 'C')
+        || setweight(to_tsvector('spanish', COALESCE(p_description, '')), 'D');
+$$ LANGUAGE sql STABLE;
+
+-- Own columns: recomputed in place before the row is written
+CREATE OR REPLACE FUNCTION update_business_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector = business_search_vector(NEW.id, NEW.name, NEW.description, NEW.city);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER update_businesses_search_vector
+    BEFORE INSERT OR UPDATE OF name, description, city ON businesses
+    FOR EACH ROW
+    EXECUTE FUNCTION update_business_search_vector();
+
+-- Service names: touching the business name re-fires the trigger above
+CREATE OR REPLACE FUNCTION refresh_business_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE businesses SET name = name WHERE id = OLD.business_id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND (TG_OP = 'INSERT' OR NEW.business_id <> OLD.business_id) THEN
+        UPDATE businesses SET name = name WHERE id = NEW.business_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER refresh_services_business_search_vector
+    AFTER INSERT OR DELETE OR UPDATE OF name, active, business_id ON services
+    FOR EACH ROW
+    EXECUTE FUNCTION refresh_business_search_vector();
+
+UPDATE businesses SET search_vector = business_search_vector(id, name, description, city);
+
+DROP INDEX IF EXISTS idx_businesses_name_search;
+CREATE INDEX idx_businesses_search_vector ON businesses USING GIN (search_vector);
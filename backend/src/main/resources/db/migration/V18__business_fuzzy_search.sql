@@ -0,0 +1,22 @@
+-- =====================================================
+-- Fuzzy Business Search
+-- Version: V18
+-- Description: Trigram index over the accent-free, lower-cased
+--              business name for typo-tolerant search and
+--              "did you mean" suggestions
+-- =====================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE (its dictionary can change), so it cannot be used in
+-- an index expression; this wrapper pins the dictionary and is declared IMMUTABLE
+CREATE OR REPLACE FUNCTION f_unaccent(text)
+RETURNS text AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- The expression must match the queries exactly: f_unaccent(lower(name))
+CREATE INDEX idx_businesses_name_trgm
+    ON businesses USING GIN (f_unaccent(lower(name)) gin_trgm_ops)
+    WHERE active = TRUE;
@@ -0,0 +1,26 @@
+-- =====================================================
+-- Business Search Filter Indexes
+-- Version: V19
+-- Description: Partial indexes over active businesses matching the
+--              composed search filters. Equality filters lead and
+--              the rating order (also used by the minimum rating
+--              range) follows, so each combination is a range scan:
+--                city [+ category] [+ min rating]
+--                  -> idx_businesses_active_city_category_rating
+--                category [+ min rating]
+--                  -> idx_businesses_active_category_rating
+--                min rating / no filter
+--                  -> idx_businesses_active_rating_id (V8)
+-- =====================================================
+
+CREATE INDEX idx_businesses_active_city_category_rating
+    ON businesses(lower(city), category, (COALESCE(average_rating, 0)) DESC, id DESC)
+    WHERE active = TRUE;
+
+CREATE INDEX idx_businesses_active_category_rating
+    ON businesses(category, (COALESCE(average_rating, 0)) DESC, id DESC)
+    WHERE active = TRUE;
+
+-- Superseded: the search compares lower(city) and only lists active businesses
+DROP INDEX IF EXISTS idx_businesses_city;
+DROP INDEX IF EXISTS idx_businesses_category;
@@ -0,0 +1,20 @@
+-- =====================================================
+-- Business Location
+-- Version: V20
+-- Description: WGS84 coordinates of a business and a GiST index on
+--              point(longitude, latitude) for the "near me" search.
+--              The search prefilters with a bounding box (<@ box),
+--              which this index serves, and ranks the candidates by
+--              exact haversine distance. Stock PostgreSQL, no PostGIS.
+-- =====================================================
+
+ALTER TABLE businesses
+    ADD COLUMN latitude DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD CONSTRAINT businesses_location_check CHECK (
+        (latitude IS NULL AND longitude IS NULL)
+        OR (latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180));
+
+CREATE INDEX idx_businesses_location
+    ON businesses USING GIST (point(longitude, latitude))
+    WHERE active = TRUE AND latitude IS NOT NULL AND longitude IS NOT NULL;
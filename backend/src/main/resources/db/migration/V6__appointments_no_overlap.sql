@@ -0,0 +1,17 @@
+-- =====================================================
+-- Appointment Overlap Constraint
+-- Version: V6
+-- Description: Makes overlapping active appointments of the same
+--              worker impossible at the database level, so booking
+--              is a single INSERT instead of check-then-insert
+-- =====================================================
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Cancelled and no-show appointments free their slot
+ALTER TABLE appointments
+    ADD CONSTRAINT appointments_no_overlap
+    EXCLUDE USING gist (
+        worker_id WITH =,
+        tsrange(start_time, end_time) WITH &&
+    ) WHERE (status NOT IN ('CANCELLED', 'NO_SHOW'));
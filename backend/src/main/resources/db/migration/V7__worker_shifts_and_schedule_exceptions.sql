@@ -0,0 +1,34 @@
+-- =====================================================
+-- Worker Shifts and Schedule Exceptions
+-- Version: V7
+-- Description: Allows several shifts per day (split shifts, lunch
+--              breaks) and dated exceptions (holidays, vacations,
+--              extra hours) on top of the weekly schedule
+-- =====================================================
+
+-- Several rows per worker and day are now allowed
+ALTER TABLE worker_schedules DROP CONSTRAINT IF EXISTS worker_schedules_worker_id_day_of_week_key;
+
+CREATE INDEX IF NOT EXISTS idx_worker_schedules_worker_day ON worker_schedules(worker_id, day_of_week);
+
+-- Dated exceptions to the weekly schedule.
+-- is_available = FALSE removes the given hours (or the whole day when times are NULL);
+-- is_available = TRUE replaces the weekly hours of those dates with the given hours.
+CREATE TABLE worker_schedule_exceptions (
+    id BIGSERIAL PRIMARY KEY,
+    worker_id BIGINT NOT NULL REFERENCES workers(id) ON DELETE CASCADE,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    start_time TIME,
+    end_time TIME,
+    is_available BOOLEAN NOT NULL DEFAULT FALSE,
+    reason VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CHECK (end_date >= start_date),
+    CHECK ((start_time IS NULL AND end_time IS NULL)
+        OR (start_time IS NOT NULL AND end_time IS NOT NULL AND end_time > start_time)),
+    CHECK (is_available = FALSE OR start_time IS NOT NULL)
+);
+
+CREATE INDEX idx_worker_schedule_exceptions_worker_dates
+    ON worker_schedule_exceptions(worker_id, end_date, start_date);
@@ -0,0 +1,20 @@
+-- =====================================================
+-- Keyset Pagination Indexes
+-- Version: V8
+-- Description: Indexes matching the (sort key, id) order of the
+--              cursor listings so each page seeks to the cursor
+--              instead of skipping OFFSET rows
+-- =====================================================
+
+-- Client appointment history (the worker side is served by idx_appointments_time_range)
+CREATE INDEX IF NOT EXISTS idx_appointments_client_start_id
+    ON appointments(client_id, start_time DESC, id DESC);
+
+-- Favorites of a user, newest first
+CREATE INDEX IF NOT EXISTS idx_favorites_user_created_id
+    ON favorites(user_id, created_at DESC, id DESC);
+
+-- Business search by rating; the expression must match the ORDER BY of the query
+CREATE INDEX IF NOT EXISTS idx_businesses_active_rating_id
+    ON businesses((COALESCE(average_rating, 0)) DESC, id DESC)
+    WHERE active = TRUE;
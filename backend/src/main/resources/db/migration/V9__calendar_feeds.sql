@@ -0,0 +1,20 @@
+-- =====================================================
+-- Calendar Feeds
+-- Version: V9
+-- Description: Secret tokens for the iCalendar (.ics) feeds that
+--              workers and clients subscribe to from their phones
+-- =====================================================
+
+-- worker_id NULL: the appointments booked by user_id as a client
+-- worker_id set:  the agenda of that worker, created by the worker or the business owner
+CREATE TABLE calendar_feeds (
+    id BIGSERIAL PRIMARY KEY,
+    token VARCHAR(64) NOT NULL UNIQUE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    worker_id BIGINT REFERENCES workers(id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- One active feed per client and per worker; creating a new one rotates the token
+CREATE UNIQUE INDEX idx_calendar_feeds_client ON calendar_feeds(user_id) WHERE worker_id IS NULL;
+CREATE UNIQUE INDEX idx_calendar_feeds_worker ON calendar_feeds(worker_id) WHERE worker_id IS NOT NULL;
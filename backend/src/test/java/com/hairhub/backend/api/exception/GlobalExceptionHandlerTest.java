@@ -0,0 +1,43 @@
+package com.hairhub.backend.api.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Debe responder 409 cuando la restricción de solapamiento de una partición rechaza la cita")
+    void handleDataIntegrityViolation_shouldMapOverlapToConflict() {
+        SQLException cause = new SQLException(
+                "ERROR: conflicting key value violates exclusion constraint \"appointments_no_overlap_y2026m03\"",
+                "23P01");
+
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(
+                new DataIntegrityViolationException("could not execute statement", cause));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("El trabajador ya tiene una cita en ese horario");
+    }
+
+    @Test
+    @DisplayName("Debe responder 500 ante otras violaciones de integridad")
+    void handleDataIntegrityViolation_shouldKeepOtherViolationsGeneric() {
+        SQLException cause = new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"reviews_appointment_id_key\"",
+                "23505");
+
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(
+                new DataIntegrityViolationException("could not execute statement", cause));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -1,11 +1,25 @@
 package com.hairhub.backend.api.service;
 
 import com.hairhub.backend.api.dto.appointment.AppointmentResponse;
+import com.hairhub.backend.api.dto.appointment.AppointmentSeriesResponse;
+import com.hairhub.backend.api.dto.appointment.BulkStatusUpdateRequest;
+import com.hairhub.backend.api.dto.appointment.BulkStatusUpdateResponse;
+import com.hairhub.backend.api.dto.appointment.CreateAppointmentSeriesRequest;
 import com.hairhub.backend.api.dto.appointment.CreateAppointmentRequest;
+import com.hairhub.backend.api.dto.appointment.CreateReviewRequest;
+import com.hairhub.backend.api.dto.appointment.ReviewResponse;
+import com.hairhub.backend.api.dto.appointment.UpdateAppointmentRequest;
 import com.hairhub.backend.api.exception.BadRequestException;
 import com.hairhub.backend.api.exception.ConflictException;
+import com.hairhub.backend.api.exception.ForbiddenException;
+import com.hairhub.backend.api.service.availability.SlotHoldRegistry;
+import com.hairhub.backend.api.service.availability.WorkerAvailabilityIndex;
+import com.hairhub.backend.api.service.availability.WorkerScheduleCache;
+import com.hairhub.backend.api.service.availability.WorkerScheduleSnapshot;
 import com.hairhub.backend.domain.booking.Appointment;
 import com.hairhub.backend.domain.booking.AppointmentRepository;
+import com.hairhub.backend.domain.booking.AppointmentStatusView;
+import com.hairhub.backend.domain.booking.Review;
 import com.hairhub.backend.domain.booking.AppointmentStatus;
 import com.hairhub.backend.domain.booking.ReviewRepository;
 import com.hairhub.backend.domain.business.*;
@@ -20,16 +34,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,7 +66,7 @@ class AppointmentServiceTest {
     private ServiceRepository serviceRepository;
 
     @Mock
-    private WorkerScheduleRepository workerScheduleRepository;
+    private WorkerScheduleCache scheduleCache;
 
     @Mock
     private UserRepository userRepository;
@@ -56,6 +74,12 @@ class AppointmentServiceTest {
     @Mock
     private BusinessRepository businessRepository;
 
+    @Mock
+    private WorkerAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private SlotHoldRegistry slotHolds;
+
     @InjectMocks
     private AppointmentService appointmentService;
 
@@ -155,8 +179,7 @@ class AppointmentServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(client));
         when(workerRepository.findById(1L)).thenReturn(Optional.of(worker));
         when(serviceRepository.findById(1L)).thenReturn(Optional.of(service));
-        when(workerScheduleRepository.findByWorkerIdAndAvailableTrue(1L)).thenReturn(List.of(schedule));
-        when(appointmentRepository.findOverlappingAppointments(eq(1L), any(), any())).thenReturn(List.of());
+        when(scheduleCache.get(1L)).thenReturn(WorkerScheduleSnapshot.of(List.of(schedule)));
         when(appointmentRepository.save(any(Appointment.class))).thenAnswer(i -> {
             Appointment a = i.getArgument(0);
             a.setId(1L);
@@ -170,6 +193,33 @@ class AppointmentServiceTest {
         assertThat(result.getServiceName()).isEqualTo("Corte de pelo");
         assertThat(result.getStatus()).isEqualTo(AppointmentStatus.PENDING);
         verify(appointmentRepository).save(any(Appointment.class));
+        verify(availabilityIndex).occupy(1L, nextMonday, nextMonday.plusMinutes(30));
+        verify(slotHolds).releaseClient(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar sin consultas un horario reservado por otro cliente")
+    void createAppointment_shouldRejectSlotHeldByOtherClient() {
+        // Given
+        LocalDateTime nextMonday = LocalDateTime.now()
+                .plusWeeks(1)
+                .with(java.time.DayOfWeek.MONDAY)
+                .withHour(10)
+                .withMinute(0);
+
+        CreateAppointmentRequest request = CreateAppointmentRequest.builder()
+                .workerId(1L)
+                .serviceId(1L)
+                .startTime(nextMonday)
+                .build();
+
+        when(slotHolds.isHeldByOther(1L, 1L, nextMonday, nextMonday.plusMinutes(1))).thenReturn(true);
+
+        // When/Then
+        assertThatThrownBy(() -> appointmentService.createAppointment(1L, request))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("reservado temporalmente");
+        verifyNoInteractions(userRepository, workerRepository, appointmentRepository);
     }
 
     @Test
@@ -188,22 +238,170 @@ class AppointmentServiceTest {
                 .startTime(nextMonday)
                 .build();
 
-        Appointment existingAppointment = Appointment.builder()
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(workerRepository.findById(1L)).thenReturn(Optional.of(worker));
+        when(serviceRepository.findById(1L)).thenReturn(Optional.of(service));
+        when(scheduleCache.get(1L)).thenReturn(WorkerScheduleSnapshot.of(List.of(schedule)));
+        when(appointmentRepository.save(any(Appointment.class)))
+                .thenThrow(new DataIntegrityViolationException(Appointment.NO_OVERLAP_CONSTRAINT));
+
+        // When/Then - the exclusion constraint rejects the insert
+        assertThatThrownBy(() -> appointmentService.createAppointment(1L, request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(availabilityIndex, never()).occupy(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe crear una serie semanal e informar las citas en conflicto")
+    void createAppointmentSeries_shouldReportConflicts() {
+        // Given - Three Mondays at 10:00, the second one already taken
+        LocalDateTime nextMonday = LocalDateTime.now()
+                .plusWeeks(1)
+                .with(java.time.DayOfWeek.MONDAY)
+                .withHour(10)
+                .withMinute(0)
+                .withSecond(0)
+                .withNano(0);
+
+        CreateAppointmentSeriesRequest request = CreateAppointmentSeriesRequest.builder()
+                .workerId(1L)
+                .serviceId(1L)
+                .startTime(nextMonday)
+                .intervalWeeks(1)
+                .occurrences(3)
+                .build();
+
+        Appointment existing = Appointment.builder()
                 .id(99L)
+                .startTime(nextMonday.plusWeeks(1))
+                .endTime(nextMonday.plusWeeks(1).plusMinutes(30))
                 .status(AppointmentStatus.CONFIRMED)
                 .build();
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(client));
         when(workerRepository.findById(1L)).thenReturn(Optional.of(worker));
         when(serviceRepository.findById(1L)).thenReturn(Optional.of(service));
-        when(workerScheduleRepository.findByWorkerIdAndAvailableTrue(1L)).thenReturn(List.of(schedule));
-        when(appointmentRepository.findOverlappingAppointments(eq(1L), any(), any()))
-                .thenReturn(List.of(existingAppointment));
+        when(scheduleCache.get(1L)).thenReturn(WorkerScheduleSnapshot.of(List.of(schedule)));
+        when(appointmentRepository.findOverlappingAppointments(1L, nextMonday, nextMonday.plusWeeks(2).plusMinutes(30)))
+                .thenReturn(List.of(existing));
+        when(appointmentRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
 
-        // When/Then
-        assertThatThrownBy(() -> appointmentService.createAppointment(1L, request))
-                .isInstanceOf(ConflictException.class)
-                .hasMessageContaining("ya tiene una cita");
+        // When
+        AppointmentSeriesResponse result = appointmentService.createAppointmentSeries(1L, request);
+
+        // Then
+        assertThat(result.getCreated()).extracting(AppointmentResponse::getStartTime)
+                .containsExactly(nextMonday, nextMonday.plusWeeks(2));
+        assertThat(result.getConflicts()).hasSize(1);
+        assertThat(result.getConflicts().get(0).getStartTime()).isEqualTo(nextMonday.plusWeeks(1));
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar en bloque e informar los elementos no válidos")
+    void updateAppointmentStatuses_shouldApplyValidItemsAndReportOthers() {
+        // Given - the owner confirms a pending appointment, cancels a completed one and a missing one
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        AppointmentStatusView pending = new AppointmentStatusView(
+                10L, 1L, 3L, 2L, AppointmentStatus.PENDING, start, start.plusMinutes(30));
+        AppointmentStatusView completed = new AppointmentStatusView(
+                11L, 1L, 3L, 2L, AppointmentStatus.COMPLETED, start, start.plusMinutes(30));
+
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .items(List.of(
+                        new BulkStatusUpdateRequest.Item(10L, AppointmentStatus.CONFIRMED),
+                        new BulkStatusUpdateRequest.Item(11L, AppointmentStatus.CANCELLED),
+                        new BulkStatusUpdateRequest.Item(12L, AppointmentStatus.CONFIRMED)))
+                .build();
+
+        when(appointmentRepository.findStatusViewsByIds(List.of(10L, 11L, 12L)))
+                .thenReturn(List.of(pending, completed));
+        when(appointmentRepository.updateStatuses(eq(List.of(10L)), eq(AppointmentStatus.CONFIRMED),
+                eq(Set.of(AppointmentStatus.PENDING)), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        BulkStatusUpdateResponse result = appointmentService.updateAppointmentStatuses(2L, request);
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(BulkStatusUpdateResponse.Result::isSuccess)
+                .containsExactly(true, false, false);
+        assertThat(result.getResults().get(2).getError()).isEqualTo("Cita no encontrada");
+        verify(appointmentRepository, never()).cancelAll(any(), any(), any(), any());
+        verifyNoInteractions(availabilityIndex);
+    }
+
+    @Test
+    @DisplayName("No debe permitir buscar reseñas de un negocio ajeno")
+    void searchBusinessReviews_shouldRejectNonOwner() {
+        // Given
+        when(businessRepository.findById(1L)).thenReturn(Optional.of(business));
+
+        // When / Then
+        assertThatThrownBy(() -> appointmentService.searchBusinessReviews(1L, 3L, "espera", 0, 10))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    @DisplayName("Debe liberar el horario de una cita marcada como no asistida")
+    void updateAppointment_shouldReleaseSlotOnNoShow() {
+        // Given
+        LocalDateTime start = LocalDateTime.now().minusHours(2).withNano(0);
+        Appointment appointment = Appointment.builder()
+                .id(5L)
+                .client(client)
+                .worker(worker)
+                .service(service)
+                .startTime(start)
+                .endTime(start.plusMinutes(30))
+                .status(AppointmentStatus.CONFIRMED)
+                .build();
+
+        when(appointmentRepository.findById(5L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(i -> i.getArgument(0));
+
+        // When
+        AppointmentResponse result = appointmentService.updateAppointment(5L, 3L,
+                UpdateAppointmentRequest.builder().status(AppointmentStatus.NO_SHOW).build());
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AppointmentStatus.NO_SHOW);
+        verify(availabilityIndex).release(1L, start, start.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar la valoración del negocio y del trabajador sin leer sus reseñas")
+    void createReview_shouldIncrementRatingCounters() {
+        // Given
+        Appointment appointment = Appointment.builder()
+                .id(5L)
+                .client(client)
+                .worker(worker)
+                .service(service)
+                .startTime(LocalDateTime.now().minusDays(1))
+                .endTime(LocalDateTime.now().minusDays(1).plusMinutes(30))
+                .status(AppointmentStatus.COMPLETED)
+                .build();
+
+        CreateReviewRequest request = CreateReviewRequest.builder()
+                .rating(4)
+                .comment("Muy bien")
+                .build();
+
+        when(appointmentRepository.findById(5L)).thenReturn(Optional.of(appointment));
+        when(reviewRepository.save(any(Review.class))).thenAnswer(i -> i.getArgument(0));
+
+        // When
+        ReviewResponse result = appointmentService.createReview(5L, 1L, request);
+
+        // Then
+        assertThat(result.getRating()).isEqualTo(4);
+        verify(businessRepository).addRating(1L, 4);
+        verify(workerRepository).addRating(1L, 4);
+        verify(reviewRepository, never()).findViewsByBusinessId(any());
+        verify(businessRepository, never()).save(any(Business.class));
     }
 
     @Test
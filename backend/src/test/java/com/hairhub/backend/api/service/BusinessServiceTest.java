@@ -3,12 +3,18 @@ package com.hairhub.backend.api.service;
 import com.hairhub.backend.api.dto.business.BusinessResponse;
 import com.hairhub.backend.api.dto.business.BusinessSummaryResponse;
 import com.hairhub.backend.api.dto.business.CreateBusinessRequest;
+import com.hairhub.backend.api.dto.common.CursorResponse;
+import com.hairhub.backend.api.dto.common.PageCursor;
 import com.hairhub.backend.api.dto.common.PageResponse;
+import com.hairhub.backend.api.exception.BadRequestException;
 import com.hairhub.backend.api.exception.ForbiddenException;
 import com.hairhub.backend.api.exception.ResourceNotFoundException;
 import com.hairhub.backend.domain.business.Business;
 import com.hairhub.backend.domain.business.BusinessCategory;
+import com.hairhub.backend.domain.business.BusinessDistance;
 import com.hairhub.backend.domain.business.BusinessRepository;
+import com.hairhub.backend.domain.business.BusinessSearchCriteria;
+import com.hairhub.backend.domain.business.NearbySearch;
 import com.hairhub.backend.domain.business.ServiceRepository;
 import com.hairhub.backend.domain.business.WorkerRepository;
 import com.hairhub.backend.domain.user.Profile;
@@ -25,7 +31,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -87,15 +95,123 @@ class BusinessServiceTest {
     void searchBusinesses_shouldReturnPagedResults() {
         // Given
         Page<Business> businessPage = new PageImpl<>(List.of(business));
-        when(businessRepository.findByActiveTrue(any(Pageable.class))).thenReturn(businessPage);
+        when(businessRepository.search(any(BusinessSearchCriteria.class), any(Pageable.class))).thenReturn(businessPage);
 
         // When
-        PageResponse<BusinessSummaryResponse> result = businessService.searchBusinesses(null, null, null, 0, 10);
+        PageResponse<BusinessSummaryResponse> result = businessService.searchBusinesses(null, null, null, null, false, 0, 10);
 
         // Then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getName()).isEqualTo("Test Barbería");
-        verify(businessRepository).findByActiveTrue(any(Pageable.class));
+        verify(businessRepository).search(
+                eq(new BusinessSearchCriteria(null, null, null, null, null, true)), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el filtro de ciudad y la valoración mínima")
+    void searchBusinesses_shouldFilterByCityAndMinRating() {
+        // Given
+        BusinessSearchCriteria criteria = new BusinessSearchCriteria(
+                null, null, null, "Ciudad Test", BigDecimal.valueOf(4), true);
+        when(businessRepository.search(eq(criteria), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(business)));
+
+        // When
+        PageResponse<BusinessSummaryResponse> result = businessService.searchBusinesses(
+                " ", null, " Ciudad Test ", BigDecimal.valueOf(4), false, 0, 10);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(businessRepository, never()).setWordSimilarityThreshold(anyDouble());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una valoración mínima fuera de rango")
+    void searchBusinesses_shouldRejectInvalidMinRating() {
+        assertThatThrownBy(() -> businessService.searchBusinesses(
+                null, null, null, BigDecimal.valueOf(6), false, 0, 10))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(businessRepository);
+    }
+
+    @Test
+    @DisplayName("Debe buscar por texto con prefijos y orden por relevancia")
+    void searchBusinesses_shouldUsePrefixTextQuery() {
+        // Given
+        BusinessSearchCriteria criteria = new BusinessSearchCriteria(
+                "corte:* & barb:*", null, null, null, null, true);
+        when(businessRepository.search(eq(criteria), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(business)));
+
+        // When
+        PageResponse<BusinessSummaryResponse> result = businessService.searchBusinesses(
+                " Corte, barb' ", null, null, null, false, 0, 10);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(BusinessService.toPrefixQuery("  ¿?!  ")).isNull();
+        assertThat(BusinessService.toPrefixQuery("peluquería Niño")).isEqualTo("peluquería:* & niño:*");
+    }
+
+    @Test
+    @DisplayName("Debe buscar por nombre aproximado en modo fuzzy")
+    void searchBusinesses_shouldUseFuzzyNameSearch() {
+        // Given
+        BusinessSearchCriteria criteria = new BusinessSearchCriteria(
+                null, "barveria", BusinessCategory.BARBERSHOP, null, null, true);
+        when(businessRepository.search(eq(criteria), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(business)));
+
+        // When
+        PageResponse<BusinessSummaryResponse> result = businessService.searchBusinesses(
+                "barveria ", BusinessCategory.BARBERSHOP, null, null, true, 0, 10);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(businessRepository).setWordSimilarityThreshold(anyDouble());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la búsqueda por texto con cursor")
+    void searchBusinessesByCursor_shouldRejectTextQuery() {
+        assertThatThrownBy(() -> businessService.searchBusinesses("corte", null, null, null, null, 10))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(businessRepository);
+    }
+
+    @Test
+    @DisplayName("Debe buscar negocios cercanos ordenados por distancia")
+    void searchNearbyBusinesses_shouldReturnDistanceAndCursor() {
+        // Given
+        ReflectionTestUtils.setField(businessService, "maxNearbyRadiusKm", 50.0);
+        Business second = Business.builder()
+                .id(2L)
+                .owner(owner)
+                .name("Peluquería Centro")
+                .category(BusinessCategory.HAIR_SALON)
+                .active(true)
+                .build();
+        when(businessRepository.searchNearby(any(BusinessSearchCriteria.class), any(NearbySearch.class), eq(2)))
+                .thenReturn(List.of(new BusinessDistance(business, new BigDecimal("0.456700")),
+                        new BusinessDistance(second, new BigDecimal("1.200000"))));
+
+        // When
+        CursorResponse<BusinessSummaryResponse> result = businessService.searchNearbyBusinesses(
+                4.65, -74.05, 5.0, null, null, null, null, 1);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getDistanceKm()).isEqualTo(0.46);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(PageCursor.decode(result.getNextCursor())).isEqualTo(new PageCursor("0.456700", 1L));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un radio mayor al máximo")
+    void searchNearbyBusinesses_shouldRejectLargeRadius() {
+        ReflectionTestUtils.setField(businessService, "maxNearbyRadiusKm", 50.0);
+
+        assertThatThrownBy(() -> businessService.searchNearbyBusinesses(
+                4.65, -74.05, 500.0, null, null, null, null, 10))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(businessRepository);
     }
 
     @Test
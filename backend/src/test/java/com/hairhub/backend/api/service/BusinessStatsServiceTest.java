@@ -0,0 +1,201 @@
+package com.hairhub.backend.api.service;
+
+import com.hairhub.backend.api.dto.business.BusinessStatsResponse;
+import com.hairhub.backend.api.dto.business.OccupancyHeatmapResponse;
+import com.hairhub.backend.domain.booking.AppointmentRepository;
+import com.hairhub.backend.domain.business.Business;
+import com.hairhub.backend.domain.business.BusinessCategory;
+import com.hairhub.backend.domain.business.BusinessDailyStats;
+import com.hairhub.backend.domain.business.BusinessDailyStatsRepository;
+import com.hairhub.backend.domain.business.BusinessRepository;
+import com.hairhub.backend.domain.business.Worker;
+import com.hairhub.backend.domain.business.WorkerRepository;
+import com.hairhub.backend.domain.business.WorkerSchedule;
+import com.hairhub.backend.domain.business.WorkerScheduleException;
+import com.hairhub.backend.domain.business.WorkerScheduleExceptionRepository;
+import com.hairhub.backend.domain.business.WorkerScheduleRepository;
+import com.hairhub.backend.domain.user.Profile;
+import com.hairhub.backend.domain.user.User;
+import com.hairhub.backend.domain.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessStatsServiceTest {
+
+    // March 2026 starts on a Sunday; its Mondays are the 2nd, 9th, 16th, 23rd and 30th
+    private static final YearMonth MARCH = YearMonth.of(2026, 3);
+
+    @Mock
+    private BusinessRepository businessRepository;
+
+    @Mock
+    private WorkerRepository workerRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private BusinessDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private WorkerScheduleRepository workerScheduleRepository;
+
+    @Mock
+    private WorkerScheduleExceptionRepository exceptionRepository;
+
+    @InjectMocks
+    private BusinessStatsService businessStatsService;
+
+    private Worker worker;
+
+    @BeforeEach
+    void setUp() {
+        User owner = User.builder()
+                .id(2L)
+                .email("owner@test.com")
+                .role(UserRole.OWNER)
+                .build();
+
+        Business business = Business.builder()
+                .id(1L)
+                .owner(owner)
+                .name("Test Barbería")
+                .category(BusinessCategory.BARBERSHOP)
+                .address("Calle Test 123")
+                .active(true)
+                .build();
+
+        User workerUser = User.builder()
+                .id(3L)
+                .email("worker@test.com")
+                .role(UserRole.WORKER)
+                .build();
+        workerUser.setProfile(Profile.builder().fullName("Test Worker").build());
+
+        worker = Worker.builder()
+                .id(1L)
+                .user(workerUser)
+                .business(business)
+                .position("Barbero")
+                .active(true)
+                .build();
+
+        when(businessRepository.findById(1L)).thenReturn(Optional.of(business));
+    }
+
+    @Test
+    @DisplayName("Debe calcular los minutos programados aplicando las excepciones como en las reservas")
+    void getOccupancyHeatmap_shouldApplyScheduleExceptions() {
+        // Given - Mondays 9-18; a lunch break on the 2nd, reduced hours on the 9th, day off on the 16th
+        WorkerSchedule monday = WorkerSchedule.builder()
+                .worker(worker)
+                .dayOfWeek(1)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .available(true)
+                .build();
+
+        when(workerRepository.findByBusinessIdWithProfile(1L)).thenReturn(List.of(worker));
+        when(workerScheduleRepository.findByWorkerIdInAndAvailableTrue(List.of(1L))).thenReturn(List.of(monday));
+        when(exceptionRepository.findByWorkerIdInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                List.of(1L), MARCH.atEndOfMonth(), MARCH.atDay(1)))
+                .thenReturn(List.of(
+                        exception(2, LocalTime.of(12, 0), LocalTime.of(13, 30), false),
+                        exception(9, LocalTime.of(10, 0), LocalTime.of(12, 0), true),
+                        exception(16, null, null, false)));
+        when(appointmentRepository.findBookedMinutesByHour(eq(1L), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2, 10, 30}));
+
+        // When
+        OccupancyHeatmapResponse result = businessStatsService.getOccupancyHeatmap(1L, 2L, MARCH);
+
+        // Then
+        OccupancyHeatmapResponse.WorkerOccupancy occupancy = result.getWorkers().get(0);
+        int[][] scheduled = occupancy.getScheduledMinutes();
+
+        assertThat(scheduled[1][9]).isEqualTo(60);
+        assertThat(scheduled[1][12]).isZero();
+        assertThat(scheduled[1][13]).isEqualTo(30);
+        assertThat(scheduled[8][9]).isZero();
+        assertThat(scheduled[8][10]).isEqualTo(60);
+        assertThat(scheduled[8][12]).isZero();
+        assertThat(scheduled[15]).containsOnly(0);
+        assertThat(scheduled[22][9]).isEqualTo(60);
+        assertThat(occupancy.getTotalScheduledMinutes()).isEqualTo(450 + 120 + 0 + 540 + 540);
+
+        assertThat(occupancy.getBookedMinutes()[1][10]).isEqualTo(30);
+        assertThat(occupancy.getTotalBookedMinutes()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Debe nombrar a los trabajadores desactivados que aparecen en las estadísticas")
+    void getBusinessStats_shouldNameDeactivatedWorkers() {
+        // Given - worker 7 left the business but still has appointments in the range
+        User formerUser = User.builder()
+                .id(8L)
+                .email("former@test.com")
+                .role(UserRole.WORKER)
+                .build();
+        formerUser.setProfile(Profile.builder().fullName("Former Worker").build());
+        Worker former = Worker.builder()
+                .id(7L)
+                .user(formerUser)
+                .position("Barbero")
+                .active(false)
+                .build();
+
+        LocalDate day = LocalDate.of(2026, 3, 2);
+        when(dailyStatsRepository.findByBusinessIdAndDayRange(1L, day, day)).thenReturn(List.of(
+                stats(day, 1L, 2, BigDecimal.valueOf(30)),
+                stats(day, 7L, 1, BigDecimal.valueOf(15))));
+        when(workerRepository.findByIdInWithProfile(Set.of(1L, 7L))).thenReturn(List.of(worker, former));
+
+        // When
+        BusinessStatsResponse result = businessStatsService.getBusinessStats(1L, 2L, day, day);
+
+        // Then
+        assertThat(result.getWorkers())
+                .extracting(BusinessStatsResponse.WorkerStats::getWorkerName)
+                .containsExactly("Test Worker", "Former Worker");
+        assertThat(result.getTotals().getCompleted()).isEqualTo(3);
+        verify(workerRepository, never()).findByBusinessIdWithProfile(any());
+    }
+
+    private static BusinessDailyStats stats(LocalDate day, Long workerId, int completed, BigDecimal revenue) {
+        return BusinessDailyStats.builder()
+                .id(new BusinessDailyStats.Key(1L, day, workerId))
+                .completedCount(completed)
+                .revenue(revenue)
+                .build();
+    }
+
+    private WorkerScheduleException exception(int day, LocalTime start, LocalTime end, boolean available) {
+        return WorkerScheduleException.builder()
+                .worker(worker)
+                .startDate(LocalDate.of(2026, 3, day))
+                .endDate(LocalDate.of(2026, 3, day))
+                .startTime(start)
+                .endTime(end)
+                .available(available)
+                .build();
+    }
+}
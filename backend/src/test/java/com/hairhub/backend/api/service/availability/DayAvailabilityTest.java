@@ -0,0 +1,78 @@
+package com.hairhub.backend.api.service.availability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayAvailabilityTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+
+    private DayAvailability day;
+
+    @BeforeEach
+    void setUp() {
+        day = new DayAvailability(DATE);
+        day.open(LocalTime.of(9, 0), LocalTime.of(18, 0));
+    }
+
+    @Test
+    @DisplayName("Debe marcar libre solo el horario del trabajador")
+    void isFree_shouldRespectSchedule() {
+        assertThat(day.isFree(9 * 60, 9 * 60 + 30)).isTrue();
+        assertThat(day.isFree(17 * 60 + 30, 18 * 60)).isTrue();
+        assertThat(day.isFree(8 * 60 + 30, 9 * 60 + 30)).isFalse();
+        assertThat(day.isFree(17 * 60 + 45, 18 * 60 + 15)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe bloquear los intervalos ocupados por citas")
+    void occupy_shouldBlockOverlappingSlots() {
+        day.occupy(DATE.atTime(10, 0), DATE.atTime(10, 45));
+
+        assertThat(day.isFree(9 * 60 + 30, 10 * 60)).isTrue();
+        assertThat(day.isFree(9 * 60 + 30, 10 * 60 + 30)).isFalse();
+        assertThat(day.isFree(10 * 60 + 30, 11 * 60)).isFalse();
+        assertThat(day.isFree(10 * 60 + 45, 11 * 60 + 15)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe redondear hacia afuera las citas no alineadas")
+    void occupy_shouldRoundUnalignedAppointmentsOutwards() {
+        day.occupy(DATE.atTime(11, 7), DATE.atTime(11, 22));
+
+        assertThat(day.isFree(11 * 60, 11 * 60 + 5)).isTrue();
+        assertThat(day.isFree(11 * 60 + 5, 11 * 60 + 10)).isFalse();
+        assertThat(day.isFree(11 * 60 + 20, 11 * 60 + 25)).isFalse();
+        assertThat(day.isFree(11 * 60 + 25, 11 * 60 + 30)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe manejar intervalos que cruzan palabras del bitmap")
+    void isFree_shouldWorkAcrossWordBoundaries() {
+        // Granule 64 starts at 05:20 and granule 128 at 10:40
+        DayAvailability fullDay = new DayAvailability(DATE);
+        fullDay.open(LocalTime.of(0, 0), LocalTime.of(23, 55));
+
+        assertThat(fullDay.isFree(5 * 60, 11 * 60)).isTrue();
+
+        fullDay.occupy(DATE.atTime(10, 40), DATE.atTime(10, 45));
+
+        assertThat(fullDay.isFree(5 * 60, 11 * 60)).isFalse();
+        assertThat(fullDay.isFree(5 * 60, 10 * 60 + 40)).isTrue();
+        assertThat(fullDay.isFree(10 * 60 + 45, 23 * 60 + 55)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar citas de otros días")
+    void occupy_shouldIgnoreOtherDays() {
+        day.occupy(DATE.minusDays(1).atTime(10, 0), DATE.minusDays(1).atTime(11, 0));
+
+        assertThat(day.isFree(10 * 60, 11 * 60)).isTrue();
+    }
+}
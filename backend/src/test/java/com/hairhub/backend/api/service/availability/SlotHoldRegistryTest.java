@@ -0,0 +1,83 @@
+package com.hairhub.backend.api.service.availability;
+
+import com.hairhub.backend.api.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlotHoldRegistryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    private SlotHoldRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SlotHoldRegistry();
+        ReflectionTestUtils.setField(registry, "ttlSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la reserva de otro cliente sobre el mismo horario")
+    void hold_shouldRejectOverlappingHoldOfOtherClient() {
+        registry.hold(1L, 10L, START, START.plusMinutes(30));
+
+        assertThatThrownBy(() -> registry.hold(1L, 20L, START.plusMinutes(15), START.plusMinutes(45)))
+                .isInstanceOf(ConflictException.class);
+        assertThat(registry.isHeldByOther(1L, 20L, START, START.plusMinutes(30))).isTrue();
+        assertThat(registry.isHeldByOther(1L, 10L, START, START.plusMinutes(30))).isFalse();
+        assertThat(registry.isHeldByOther(2L, 20L, START, START.plusMinutes(30))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar la reserva anterior del mismo cliente")
+    void hold_shouldReplacePreviousHoldOfSameClient() {
+        registry.hold(1L, 10L, START, START.plusMinutes(30));
+        registry.hold(1L, 10L, START.plusHours(1), START.plusHours(1).plusMinutes(30));
+
+        assertThat(registry.activeHolds(1L)).hasSize(1);
+        assertThat(registry.isHeldByOther(1L, 20L, START, START.plusMinutes(30))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar reservas expiradas")
+    void hold_shouldIgnoreExpiredHolds() {
+        ReflectionTestUtils.setField(registry, "ttlSeconds", 0L);
+        registry.hold(1L, 10L, START, START.plusMinutes(30));
+
+        assertThat(registry.activeHolds(1L)).isEmpty();
+        ReflectionTestUtils.setField(registry, "ttlSeconds", 300L);
+        assertThat(registry.hold(1L, 20L, START, START.plusMinutes(30)).clientId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("Debe liberar solo las reservas del propio cliente")
+    void release_shouldOnlyReleaseOwnHold() {
+        SlotHold hold = registry.hold(1L, 10L, START, START.plusMinutes(30));
+
+        assertThat(registry.release(hold.id(), 20L)).isFalse();
+        assertThat(registry.release(hold.id(), 10L)).isTrue();
+        assertThat(registry.activeHolds(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los trabajadores que solo tienen reservas expiradas")
+    void sweepExpired_shouldRemoveWorkersWithoutActiveHolds() {
+        registry.hold(1L, 10L, START, START.plusMinutes(30));
+        ReflectionTestUtils.setField(registry, "ttlSeconds", 0L);
+        registry.hold(2L, 20L, START, START.plusMinutes(30));
+
+        registry.sweepExpired();
+
+        Map<?, ?> holdsByWorker = (Map<?, ?>) ReflectionTestUtils.getField(registry, "holdsByWorker");
+        assertThat(holdsByWorker).containsOnlyKeys(1L);
+        assertThat(registry.activeHolds(1L)).hasSize(1);
+    }
+}
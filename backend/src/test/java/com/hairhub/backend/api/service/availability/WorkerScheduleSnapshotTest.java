@@ -0,0 +1,114 @@
+package com.hairhub.backend.api.service.availability;
+
+import com.hairhub.backend.domain.business.WorkerSchedule;
+import com.hairhub.backend.domain.business.WorkerScheduleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkerScheduleSnapshotTest {
+
+    // Monday
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+
+    private static final List<WorkerSchedule> SPLIT_SHIFTS = List.of(
+            shift(1, LocalTime.of(15, 0), LocalTime.of(19, 0)),
+            shift(1, LocalTime.of(9, 0), LocalTime.of(13, 0)));
+
+    @Test
+    @DisplayName("Debe ordenar los turnos partidos y unir los contiguos")
+    void windowsOn_shouldSortAndMergeShifts() {
+        WorkerScheduleSnapshot snapshot = WorkerScheduleSnapshot.of(List.of(
+                shift(1, LocalTime.of(13, 0), LocalTime.of(18, 0)),
+                shift(1, LocalTime.of(9, 0), LocalTime.of(13, 0))));
+
+        assertThat(snapshot.windowsOn(DATE)).containsExactly(TimeWindow.of(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        assertThat(snapshot.windowsOn(DATE.plusDays(1))).isEmpty();
+        assertThat(WorkerScheduleSnapshot.of(SPLIT_SHIFTS).windowsOn(DATE)).containsExactly(
+                TimeWindow.of(LocalTime.of(9, 0), LocalTime.of(13, 0)),
+                TimeWindow.of(LocalTime.of(15, 0), LocalTime.of(19, 0)));
+    }
+
+    @Test
+    @DisplayName("Debe aceptar solo citas dentro de un turno")
+    void covers_shouldRequireSingleShift() {
+        WorkerScheduleSnapshot snapshot = WorkerScheduleSnapshot.of(SPLIT_SHIFTS);
+
+        assertThat(snapshot.covers(DATE.atTime(12, 30), DATE.atTime(13, 0))).isTrue();
+        assertThat(snapshot.covers(DATE.atTime(12, 30), DATE.atTime(13, 30))).isFalse();
+        assertThat(snapshot.covers(DATE.atTime(15, 0), DATE.atTime(16, 0))).isTrue();
+        assertThat(snapshot.covers(DATE.atTime(18, 30), DATE.atTime(19, 30))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe anular el día completo con una excepción sin horas")
+    void windowsOn_shouldRemoveWholeDayOff() {
+        WorkerScheduleSnapshot snapshot = WorkerScheduleSnapshot.of(SPLIT_SHIFTS, List.of(
+                exception(DATE, DATE.plusDays(7), null, null, false)));
+
+        assertThat(snapshot.windowsOn(DATE)).isEmpty();
+        assertThat(snapshot.windowsOn(DATE.plusDays(7))).isEmpty();
+        assertThat(snapshot.windowsOn(DATE.plusDays(14))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Debe restar las horas no disponibles de los turnos")
+    void windowsOn_shouldSubtractPartialExceptions() {
+        WorkerScheduleSnapshot snapshot = WorkerScheduleSnapshot.of(SPLIT_SHIFTS, List.of(
+                exception(DATE, DATE, LocalTime.of(10, 0), LocalTime.of(11, 0), false),
+                exception(DATE, DATE, LocalTime.of(12, 30), LocalTime.of(16, 0), false)));
+
+        assertThat(snapshot.windowsOn(DATE)).containsExactly(
+                TimeWindow.of(LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                TimeWindow.of(LocalTime.of(11, 0), LocalTime.of(12, 30)),
+                TimeWindow.of(LocalTime.of(16, 0), LocalTime.of(19, 0)));
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar el horario semanal con un horario especial")
+    void windowsOn_shouldReplaceWithSpecialHours() {
+        LocalDate sunday = DATE.minusDays(1);
+        WorkerScheduleSnapshot snapshot = WorkerScheduleSnapshot.of(SPLIT_SHIFTS, List.of(
+                exception(sunday, DATE, LocalTime.of(10, 0), LocalTime.of(14, 0), true)));
+
+        assertThat(snapshot.windowsOn(sunday)).containsExactly(TimeWindow.of(LocalTime.of(10, 0), LocalTime.of(14, 0)));
+        assertThat(snapshot.windowsOn(DATE)).containsExactly(TimeWindow.of(LocalTime.of(10, 0), LocalTime.of(14, 0)));
+        assertThat(snapshot.covers(DATE.atTime(15, 0), DATE.atTime(16, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar turnos y excepciones de menos de un minuto")
+    void of_shouldSkipSubMinuteWindows() {
+        WorkerScheduleSnapshot snapshot = WorkerScheduleSnapshot.of(List.of(
+                shift(1, LocalTime.of(9, 0), LocalTime.of(9, 0, 40)),
+                shift(1, LocalTime.of(15, 0), LocalTime.of(19, 0))), List.of(
+                exception(DATE, DATE, LocalTime.of(16, 0, 10), LocalTime.of(16, 0, 50), false)));
+
+        assertThat(snapshot.windowsOn(DATE)).containsExactly(TimeWindow.of(LocalTime.of(15, 0), LocalTime.of(19, 0)));
+    }
+
+    private static WorkerSchedule shift(int dayOfWeek, LocalTime start, LocalTime end) {
+        return WorkerSchedule.builder()
+                .dayOfWeek(dayOfWeek)
+                .startTime(start)
+                .endTime(end)
+                .available(true)
+                .build();
+    }
+
+    private static WorkerScheduleException exception(LocalDate from, LocalDate to, LocalTime start, LocalTime end,
+            boolean available) {
+        return WorkerScheduleException.builder()
+                .startDate(from)
+                .endDate(to)
+                .startTime(start)
+                .endTime(end)
+                .available(available)
+                .build();
+    }
+}
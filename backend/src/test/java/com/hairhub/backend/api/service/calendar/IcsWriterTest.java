@@ -0,0 +1,62 @@
+package com.hairhub.backend.api.service.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsWriterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    @Test
+    @DisplayName("Debe escribir un calendario con sus eventos")
+    void write_shouldProduceCalendar() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter ics = new IcsWriter(out);
+
+        ics.begin("HairHub - Test");
+        ics.event(new IcsWriter.Event("appointment-1@hairhub", Instant.parse("2026-03-01T12:00:00Z"),
+                START, START.plusMinutes(30), "Corte de pelo - Ana", "Calle Test 123", null, "CONFIRMED"));
+        ics.end();
+
+        String content = out.toString(StandardCharsets.UTF_8);
+        assertThat(content).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(content).contains(
+                "UID:appointment-1@hairhub\r\n",
+                "DTSTAMP:20260301T120000Z\r\n",
+                "DTSTART:20260302T100000\r\n",
+                "DTEND:20260302T103000\r\n",
+                "STATUS:CONFIRMED\r\n");
+        assertThat(content).doesNotContain("DESCRIPTION");
+    }
+
+    @Test
+    @DisplayName("Debe escapar el texto según RFC 5545")
+    void escape_shouldEscapeSpecialCharacters() {
+        assertThat(IcsWriter.escape("Corte, barba; y\\más\nnotas"))
+                .isEqualTo("Corte\\, barba\\; y\\\\más\\nnotas");
+    }
+
+    @Test
+    @DisplayName("Debe plegar líneas largas sin partir caracteres multibyte")
+    void write_shouldFoldLongLinesOnCharacterBoundaries() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter ics = new IcsWriter(out);
+
+        ics.begin("ñ".repeat(100));
+
+        byte[] bytes = out.toByteArray();
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        for (String line : text.split("\r\n")) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        String unfolded = text.replace("\r\n ", "");
+        assertThat(unfolded).contains("X-WR-CALNAME:" + "ñ".repeat(100) + "\r\n");
+    }
+}
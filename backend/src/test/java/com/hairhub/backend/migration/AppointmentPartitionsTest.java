@@ -0,0 +1,80 @@
+package com.hairhub.backend.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppointmentPartitionsTest extends PostgresMigrationTest {
+
+    @Test
+    @DisplayName("Debe conservar la reseña de una cita movida desde la partición por defecto")
+    void ensurePartitions_shouldKeepReviewsOfMovedAppointments() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // First month without partition: its rows are parked in appointments_default
+            LocalDate month = queryDate(statement,
+                    "SELECT (max(month_start) + INTERVAL '1 month')::date FROM appointments_partitions");
+
+            long appointmentId = queryLong(statement, String.format(
+                    "INSERT INTO appointments (client_id, worker_id, service_id, start_time, end_time, status) "
+                            + "VALUES (6, 1, 1, '%s 10:00', '%s 10:30', 'COMPLETED') RETURNING id", month, month));
+            assertThat(queryLong(statement,
+                    "SELECT count(*) FROM appointments_default WHERE id = " + appointmentId)).isEqualTo(1);
+            statement.executeUpdate("INSERT INTO reviews (appointment_id, business_id, rating, comment) "
+                    + "VALUES (" + appointmentId + ", 1, 5, 'Excelente')");
+
+            long monthsAhead = ChronoUnit.MONTHS.between(LocalDate.now().withDayOfMonth(1), month);
+            try (PreparedStatement ensure = connection.prepareStatement("SELECT appointments_ensure_partitions(?)")) {
+                ensure.setInt(1, (int) monthsAhead);
+                ensure.execute();
+            }
+
+            assertThat(queryLong(statement,
+                    "SELECT count(*) FROM appointments_default WHERE id = " + appointmentId)).isZero();
+            assertThat(queryLong(statement,
+                    "SELECT count(*) FROM appointments WHERE id = " + appointmentId)).isEqualTo(1);
+            assertThat(queryLong(statement,
+                    "SELECT count(*) FROM reviews WHERE appointment_id = " + appointmentId)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe seguir borrando la reseña cuando se borra su cita")
+    void deleteAppointment_shouldStillDeleteItsReview() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            long appointmentId = queryLong(statement,
+                    "INSERT INTO appointments (client_id, worker_id, service_id, start_time, end_time, status) "
+                            + "VALUES (6, 1, 1, date_trunc('month', now()) + INTERVAL '9 hours', "
+                            + "date_trunc('month', now()) + INTERVAL '9 hours 30 minutes', 'COMPLETED') RETURNING id");
+            statement.executeUpdate("INSERT INTO reviews (appointment_id, business_id, rating) "
+                    + "VALUES (" + appointmentId + ", 1, 4)");
+
+            statement.executeUpdate("DELETE FROM appointments WHERE id = " + appointmentId);
+
+            assertThat(queryLong(statement,
+                    "SELECT count(*) FROM reviews WHERE appointment_id = " + appointmentId)).isZero();
+        }
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static LocalDate queryDate(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getObject(1, LocalDate.class);
+        }
+    }
+}